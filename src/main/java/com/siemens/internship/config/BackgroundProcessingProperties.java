@@ -0,0 +1,70 @@
+package com.siemens.internship.config;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// Settings for the scheduler-driven background processing, bound from the
+// items.processing.background.* keys in application.properties. Validated at
+// bind time, a zero batch size or concurrency would otherwise only fail inside
+// the scheduler.
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "items.processing.background")
+public class BackgroundProcessingProperties {
+    // Background processing is off unless explicitly enabled
+    private boolean enabled = false;
+
+    // Delay between the end of one batch and the start of the next
+    @Min(1)
+    private long intervalMs = 1000;
+
+    @Min(1)
+    private int initialBatchSize = 10;
+    @Min(1)
+    private int minBatchSize = 1;
+    @Min(1)
+    private int maxBatchSize = 500;
+    // How many items the batch grows by after a healthy batch
+    @Min(1)
+    private int batchSizeStep = 10;
+
+    @Min(1)
+    private int initialConcurrency = 2;
+    @Min(1)
+    private int minConcurrency = 1;
+    @Min(1)
+    private int maxConcurrency = 10;
+
+    // Average per-item DB latency above which the batch is considered under
+    // pressure
+    private long targetLatencyMs = 50;
+
+    // Fraction of failed items above which the batch is considered under
+    // pressure
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double maxErrorRate = 0.05;
+
+    // Failed attempts after which an item is parked and no longer retried until
+    // the application restarts
+    @Min(1)
+    private int maxAttempts = 5;
+
+    @AssertTrue(message = "min-batch-size <= initial-batch-size <= max-batch-size is required")
+    public boolean isBatchSizeRangeValid() {
+        return minBatchSize <= initialBatchSize && initialBatchSize <= maxBatchSize;
+    }
+
+    @AssertTrue(message = "min-concurrency <= initial-concurrency <= max-concurrency is required")
+    public boolean isConcurrencyRangeValid() {
+        return minConcurrency <= initialConcurrency && initialConcurrency <= maxConcurrency;
+    }
+}
@@ -0,0 +1,43 @@
+package com.siemens.internship.config;
+
+import com.siemens.internship.observability.EntityLoadCountingInterceptor;
+import com.siemens.internship.observability.QueryCountingStatementInspector;
+import com.siemens.internship.observability.QueryStatisticsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Per endpoint Hibernate statistics for the blocking stack: Hibernate reports
+// every statement and entity load, the interceptor turns them into metrics
+@Configuration
+@Profile("!reactive")
+public class ObservabilityConfig implements WebMvcConfigurer {
+    private final MeterRegistry meterRegistry;
+    private final int queryCountWarnThreshold;
+
+    public ObservabilityConfig(MeterRegistry meterRegistry,
+            @Value("${items.observability.query-count-warn-threshold:20}") int queryCountWarnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.queryCountWarnThreshold = queryCountWarnThreshold;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryStatisticsHibernateCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+            hibernateProperties.put(AvailableSettings.INTERCEPTOR, new EntityLoadCountingInterceptor());
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryStatisticsInterceptor(meterRegistry, queryCountWarnThreshold))
+                .addPathPatterns("/api/**");
+    }
+}
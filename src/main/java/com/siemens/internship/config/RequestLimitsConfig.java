@@ -0,0 +1,27 @@
+package com.siemens.internship.config;
+
+import com.siemens.internship.validation.RequestSizeLimitInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Bounds the body of the bulk endpoint before it is deserialized, the item count
+// limit alone is only checked once the whole list is in memory
+@Configuration
+@Profile("!reactive")
+public class RequestLimitsConfig implements WebMvcConfigurer {
+    private final DataSize bulkMaxRequestSize;
+
+    public RequestLimitsConfig(@Value("${items.bulk.max-request-size:1MB}") DataSize bulkMaxRequestSize) {
+        this.bulkMaxRequestSize = bulkMaxRequestSize;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestSizeLimitInterceptor(bulkMaxRequestSize.toBytes()))
+                .addPathPatterns("/api/items/bulk");
+    }
+}
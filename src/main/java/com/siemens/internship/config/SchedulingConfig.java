@@ -0,0 +1,15 @@
+package com.siemens.internship.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Scheduling is only switched on when background processing is enabled, so the
+// default on-demand mode (GET /api/items/process) keeps working unchanged
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(BackgroundProcessingProperties.class)
+@ConditionalOnProperty(prefix = "items.processing.background", name = "enabled", havingValue = "true")
+public class SchedulingConfig {
+}
@@ -0,0 +1,20 @@
+package com.siemens.internship.config;
+
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+// Replaces Boot's default validator. Constraint messages in this project are
+// plain text, so the parameter-only interpolator is enough and skips the
+// Expression Language evaluation done for every violation by default.
+@Configuration
+public class ValidationConfig {
+
+    @Bean
+    public static LocalValidatorFactoryBean defaultValidator() {
+        LocalValidatorFactoryBean validatorFactoryBean = new LocalValidatorFactoryBean();
+        validatorFactoryBean.setMessageInterpolator(new ParameterMessageInterpolator());
+        return validatorFactoryBean;
+    }
+}
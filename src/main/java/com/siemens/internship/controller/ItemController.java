@@ -1,51 +1,126 @@
 package com.siemens.internship.controller;
 
+import com.siemens.internship.config.WebConfig;
 import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemChangeBatch;
+import com.siemens.internship.model.ItemChangeEvent;
+import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.service.ItemChangeService;
 import com.siemens.internship.service.ItemService;
+import com.siemens.internship.validation.ApiError;
+import com.siemens.internship.validation.ItemValidationException;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 @RestController
+@Observed(name = "items.controller")
+@Profile("!reactive")
 @RequestMapping("/api/items")
 public class ItemController {
+    public static final int MAX_BULK_SIZE = 1000;
 
     @Autowired
     private ItemService itemService;
+    @Autowired
+    private ItemChangeService itemChangeService;
+    @Autowired
+    private Validator validator;
 
     /**
      *
-     * @return all items from the database with a status of ok
+     * @param webRequest - the request, used to evaluate conditional headers
+     * @return all items from the database with a status of ok, as JSON, CBOR or
+     *         Smile depending on the Accept header, or not modified if the
+     *         collection did not change since the client's copy
      */
-    @GetMapping
-    public ResponseEntity<List<Item>> getAllItems() {
-        return new ResponseEntity<>(itemService.findAll(), HttpStatus.OK);
+    @GetMapping(produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE,
+            WebConfig.APPLICATION_SMILE_VALUE })
+    public ResponseEntity<List<Item>> getAllItems(WebRequest webRequest) {
+        // Every write appends to the change outbox, so its latest sequence number
+        // versions the whole collection. The ETag is weak because the same version
+        // is served in several formats.
+        Optional<ItemChangeEvent> latestChange = itemChangeService.findLatestChange();
+        String eTag = "W/\"items-" + latestChange.map(ItemChangeEvent::getSeq).orElse(0L) + "\"";
+        if (isNotModified(webRequest, eTag, latestChange.map(ItemChangeEvent::getOccurredAt).orElse(null))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT).build();
+        }
+
+        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(itemService.findAll());
     }
 
     /**
      *
-     * @param id - the id of the item to be found
-     * @return the item with the given id with a status of ok or not found if the
-     *         item is not found
+     * @param id         - the id of the item to be found
+     * @param webRequest - the request, used to evaluate conditional headers
+     * @return the item with the given id with a status of ok, not modified if the
+     *         client's copy is still current or not found if the item is not
+     *         found
      */
-    @GetMapping("/{id}")
-    public ResponseEntity<Item> getItemById(@PathVariable Long id) {
+    // Numeric ids only, so /changes or /process with an Accept header they do not
+    // produce is answered with not acceptable instead of being taken for an id
+    @GetMapping("/{id:-?\\d+}")
+    public ResponseEntity<Item> getItemById(@PathVariable Long id, WebRequest webRequest) {
+        // Decide on 304 from the version alone, so unchanged items are neither
+        // loaded nor serialized
+        Optional<ItemRepository.VersionView> version = itemService.findVersionById(id);
+        if (version.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        if (isNotModified(webRequest, itemETag(id, version.get().getVersion()), version.get().getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT).build();
+        }
+
+        // The ETag is taken from the loaded item in case it changed in between
         return itemService.findById(id)
-                .map(item -> new ResponseEntity<>(item, HttpStatus.OK))
+                .map(item -> ResponseEntity.ok()
+                        .eTag(itemETag(id, item.getVersion()))
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(item))
                 .orElse(new ResponseEntity<>(HttpStatus.NOT_FOUND));
     }
 
+    /**
+     *
+     * @param since - the sequence number of the last change already seen
+     * @param limit - the maximum number of changes to return
+     * @return the changes after since, in order, with a status of ok. JSON only,
+     *         since the payloads are stored as raw JSON
+     */
+    @GetMapping(value = "/changes", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ItemChangeBatch> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "" + ItemChangeService.DEFAULT_BATCH_SIZE) int limit) {
+        return new ResponseEntity<>(itemChangeService.findChanges(since, limit), HttpStatus.OK);
+    }
+
     /**
      *
      * @return all items from the database processed in parallel and returned as a
-     *         CompletableFuture
+     *         CompletableFuture, as JSON, CBOR or Smile depending on the Accept
+     *         header
      */
-    @GetMapping("/process")
+    @GetMapping(value = "/process", produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE,
+            WebConfig.APPLICATION_SMILE_VALUE })
     public CompletableFuture<ResponseEntity<List<Item>>> processItems() {
         return itemService.processItemsAsync()
                 .thenApply(items -> new ResponseEntity<>(items, HttpStatus.OK));
@@ -59,9 +134,49 @@ public class ItemController {
      */
     @PostMapping
     public ResponseEntity<Item> createItem(@Valid @RequestBody Item item) {
+        // POST always creates, id and version are assigned by JPA
+        item.setId(null);
+        item.setVersion(null);
         return new ResponseEntity<>(itemService.save(item), HttpStatus.CREATED);
     }
 
+    /**
+     *
+     * @param items - the items to be saved
+     * @return the saved items with a status of created, or bad request with all
+     *         validation errors of the payload if any item is not valid
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<Item>> createItems(@RequestBody List<Item> items) {
+        if (items.isEmpty() || items.size() > MAX_BULK_SIZE) {
+            throw new ItemValidationException(List.of(ApiError.fieldError("items",
+                    "Number of items must be between 1 and " + MAX_BULK_SIZE)));
+        }
+
+        // Validate every item in a single pass so the client gets all errors of
+        // the payload at once, prefixed with the index of the item
+        List<ApiError> errors = new ArrayList<>();
+        for (int index = 0; index < items.size(); index++) {
+            Item item = items.get(index);
+            if (item == null) {
+                errors.add(ApiError.fieldError("[" + index + "]", "Item cannot be null"));
+                continue;
+            }
+            for (ConstraintViolation<Item> violation : validator.validate(item)) {
+                errors.add(ApiError.fieldError("[" + index + "]." + violation.getPropertyPath(),
+                        violation.getMessage()));
+            }
+            // POST always creates, id and version are assigned by JPA
+            item.setId(null);
+            item.setVersion(null);
+        }
+        if (!errors.isEmpty()) {
+            throw new ItemValidationException(errors);
+        }
+
+        return new ResponseEntity<>(itemService.saveAll(items), HttpStatus.CREATED);
+    }
+
     /**
      *
      * @param id   - the id of the item to be updated
@@ -74,6 +189,9 @@ public class ItemController {
         Optional<Item> existingItem = itemService.findById(id);
         if (existingItem.isPresent()) {
             item.setId(id);
+            // Keep the stored version so JPA treats this as an update of the
+            // existing row
+            item.setVersion(existingItem.get().getVersion());
             return new ResponseEntity<>(itemService.save(item), HttpStatus.OK);
         } else {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -95,4 +213,30 @@ public class ItemController {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
     }
+
+    /**
+     *
+     * @param id      - the id of the item
+     * @param version - the version of the item
+     * @return a weak ETag for the given item version, weak because the same
+     *         version is served in several formats
+     */
+    private static String itemETag(Long id, Long version) {
+        return "W/\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     *
+     * @param webRequest   - the request carrying the conditional headers
+     * @param eTag         - the current ETag of the resource
+     * @param lastModified - the last modification time of the resource, may be
+     *                     null
+     * @return true if the client's copy is current; the ETag and Last-Modified
+     *         headers are set on the response either way
+     */
+    private static boolean isNotModified(WebRequest webRequest, String eTag, Instant lastModified) {
+        return lastModified == null
+                ? webRequest.checkNotModified(eTag)
+                : webRequest.checkNotModified(eTag, lastModified.toEpochMilli());
+    }
 }
@@ -0,0 +1,99 @@
+package com.siemens.internship.controller;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.service.ReactiveItemService;
+import jakarta.validation.Valid;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// WebFlux version of ItemController, active with the reactive profile. Serves
+// the same /api/items contract; bulk reads can also be requested as
+// application/x-ndjson, which streams items one by one with backpressure down to
+// the database instead of collecting them into one JSON array.
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/items")
+public class ReactiveItemController {
+
+    private final ReactiveItemService itemService;
+
+    // Constructor injection, since WebTestClient.bindToController registers the
+    // controller instance as a bean and would try to autowire a field
+    public ReactiveItemController(ReactiveItemService itemService) {
+        this.itemService = itemService;
+    }
+
+    /**
+     *
+     * @return all items from the database
+     */
+    @GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public Flux<Item> getAllItems() {
+        return itemService.findAll();
+    }
+
+    /**
+     *
+     * @param id - the id of the item to be found
+     * @return the item with the given id with a status of ok or not found if the
+     *         item is not found
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Item>> getItemById(@PathVariable Long id) {
+        return itemService.findById(id)
+                .map(item -> new ResponseEntity<>(item, HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     *
+     * @return all items from the database processed concurrently, in id order
+     */
+    @GetMapping(value = "/process", produces = { MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE })
+    public Flux<Item> processItems() {
+        return itemService.processItems();
+    }
+
+    /**
+     *
+     * @param item - the item to be saved
+     * @return the saved item with a status of created
+     */
+    @PostMapping
+    public Mono<ResponseEntity<Item>> createItem(@Valid @RequestBody Item item) {
+        return itemService.create(item)
+                .map(savedItem -> new ResponseEntity<>(savedItem, HttpStatus.CREATED));
+    }
+
+    /**
+     *
+     * @param id   - the id of the item to be updated
+     * @param item - the item to be updated
+     * @return the updated item with a status of ok or not found if the item is not
+     *         found
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<Item>> updateItem(@PathVariable Long id, @Valid @RequestBody Item item) {
+        return itemService.update(id, item)
+                .map(updatedItem -> new ResponseEntity<>(updatedItem, HttpStatus.OK))
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     *
+     * @param id - the id of the item to be deleted
+     * @return a status of no content if the item is deleted or not found if the
+     *         item is not found
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteItem(@PathVariable Long id) {
+        return itemService.deleteById(id)
+                .map(deleted -> new ResponseEntity<Void>(deleted ? HttpStatus.NO_CONTENT : HttpStatus.NOT_FOUND));
+    }
+}
@@ -4,21 +4,32 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.Size;
 
-import lombok.AllArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.siemens.internship.validation.EmailAddress;
+
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.Instant;
+
 @Entity
+@Table(indexes = @Index(name = "idx_item_pending", columnList = "pending, id"))
 @Getter
 @Setter
-@AllArgsConstructor
 @NoArgsConstructor
 public class Item {
+    public static final String PROCESSED_STATUS = "PROCESSED";
+
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     private Long id;
@@ -36,6 +47,36 @@ public class Item {
     private String status;
 
     @NotBlank(message = "Email is required")
-    @Email(regexp = "^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$", message = "Invalid email format")
+    @EmailAddress
     private String email;
+
+    // Bumped by JPA on every update, used for the item ETag
+    @Version
+    private Long version;
+
+    // Set by Hibernate on insert and update, used for Last-Modified
+    @UpdateTimestamp
+    private Instant lastModified;
+
+    // Derived from status so pending items can be found through an index,
+    // a status <> 'PROCESSED' predicate would scan the whole table
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    private boolean pending = true;
+
+    public Item(Long id, String name, String description, String status, String email, Long version,
+                Instant lastModified) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        setStatus(status);
+        this.email = email;
+        this.version = version;
+        this.lastModified = lastModified;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+        this.pending = !PROCESSED_STATUS.equals(status);
+    }
 }
\ No newline at end of file
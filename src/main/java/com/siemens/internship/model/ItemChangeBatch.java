@@ -0,0 +1,13 @@
+package com.siemens.internship.model;
+
+import java.util.List;
+
+/**
+ *
+ * @param changes   - the change events after the requested sequence number, in
+ *                  order
+ * @param nextSince - the cursor to pass as since to read the next batch
+ * @param hasMore   - whether more events were available than fit in this batch
+ */
+public record ItemChangeBatch(List<ItemChangeEvent> changes, long nextSince, boolean hasMore) {
+}
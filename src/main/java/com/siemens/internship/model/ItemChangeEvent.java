@@ -0,0 +1,71 @@
+package com.siemens.internship.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+// Outbox row appended in the same transaction as every Item write, read by
+// downstream consumers through GET /api/items/changes
+@Entity
+@Table(name = "item_change_event", indexes = @Index(name = "idx_item_change_event_item", columnList = "itemId"))
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ItemChangeEvent implements Persistable<Long> {
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    // Gap free sequence number used as the feed cursor, assigned from
+    // ItemChangeSequence when the event is appended
+    @Id
+    private Long seq;
+
+    @Column(nullable = false)
+    private Long itemId;
+
+    // Stored as plain varchar rather than a native enum type, see db/schema.sql
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 16)
+    private ChangeType type;
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+
+    // JSON snapshot of the item after the change, null for deletions
+    @JsonRawValue
+    @Column(length = 4000)
+    private String payload;
+
+    @Override
+    @JsonIgnore
+    public Long getId() {
+        return seq;
+    }
+
+    // Events are only ever appended, so save can insert without first looking
+    // up the assigned seq
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,14 @@
+package com.siemens.internship.observability;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+// Counts every entity Hibernate loads for the current request
+public class EntityLoadCountingInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        RequestQueryStatistics.recordEntityLoad();
+        return false;
+    }
+}
@@ -0,0 +1,13 @@
+package com.siemens.internship.observability;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Counts every SQL statement Hibernate prepares for the current request
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStatistics.recordStatement();
+        return sql;
+    }
+}
@@ -0,0 +1,83 @@
+package com.siemens.internship.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+// Publishes the number of SQL statements and loaded entities per request as
+// the items.request.queries and items.request.entities.loaded metrics, tagged
+// by endpoint, and warns about requests that look like N+1 queries
+public class QueryStatisticsInterceptor implements AsyncHandlerInterceptor {
+    private static final Logger log = LoggerFactory.getLogger(QueryStatisticsInterceptor.class);
+    private static final String SUSPENDED_COUNTERS_ATTRIBUTE = QueryStatisticsInterceptor.class.getName()
+            + ".SUSPENDED_COUNTERS";
+
+    private final MeterRegistry meterRegistry;
+    private final int queryCountWarnThreshold;
+
+    public QueryStatisticsInterceptor(MeterRegistry meterRegistry, int queryCountWarnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.queryCountWarnThreshold = queryCountWarnThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The async dispatch of a request continues counting where the initial
+        // dispatch stopped
+        Object suspended = request.getAttribute(SUSPENDED_COUNTERS_ATTRIBUTE);
+        if (suspended instanceof RequestQueryStatistics.Counters counters) {
+            request.removeAttribute(SUSPENDED_COUNTERS_ATTRIBUTE);
+            RequestQueryStatistics.resume(counters);
+        } else {
+            RequestQueryStatistics.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+            Object handler) {
+        // The request thread is released, worker threads keep counting into the
+        // same counters until the async dispatch reports them
+        request.setAttribute(SUSPENDED_COUNTERS_ATTRIBUTE, RequestQueryStatistics.suspend());
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception exception) {
+        RequestQueryStatistics.Snapshot snapshot = RequestQueryStatistics.stop();
+        if (snapshot == null) {
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("items.request.queries")
+                .description("SQL statements executed per request")
+                .tag("uri", uri)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(snapshot.statements());
+        DistributionSummary.builder("items.request.entities.loaded")
+                .description("Entities loaded by Hibernate per request")
+                .tag("uri", uri)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(snapshot.entitiesLoaded());
+
+        if (snapshot.statements() > queryCountWarnThreshold) {
+            log.warn("{} {} executed {} SQL statements and loaded {} entities, possible N+1",
+                    method, uri, snapshot.statements(), snapshot.entitiesLoaded());
+        } else {
+            log.debug("{} {} executed {} SQL statements and loaded {} entities",
+                    method, uri, snapshot.statements(), snapshot.entitiesLoaded());
+        }
+    }
+}
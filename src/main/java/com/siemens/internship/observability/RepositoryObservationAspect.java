@@ -0,0 +1,65 @@
+package com.siemens.internship.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Wraps every Spring Data repository call in an items.repository observation,
+// which becomes a child span of the service span when tracing is on.
+// Spring Data repositories are generated proxies, so @Observed cannot be put on
+// them directly.
+@Aspect
+@Component
+public class RepositoryObservationAspect {
+    private final ObservationRegistry observationRegistry;
+    // Repository interface name per proxy class, resolved once
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public RepositoryObservationAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("target(org.springframework.data.repository.Repository)")
+    public Object observe(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = repositoryNames.computeIfAbsent(joinPoint.getTarget().getClass(),
+                RepositoryObservationAspect::repositoryName);
+        String method = joinPoint.getSignature().getName();
+
+        Observation observation = Observation.createNotStarted("items.repository", observationRegistry)
+                .contextualName(repository + "#" + method)
+                .lowCardinalityKeyValue("repository", repository)
+                .lowCardinalityKeyValue("method", method)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable throwable) {
+            observation.error(throwable);
+            throw throwable;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     *
+     * @param targetClass - the class of the repository proxy
+     * @return the simple name of the application's repository interface
+     */
+    private static String repositoryName(Class<?> targetClass) {
+        for (Class<?> repositoryInterface : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            if (Repository.class.isAssignableFrom(repositoryInterface)
+                    && !repositoryInterface.getName().startsWith("org.springframework.")) {
+                return repositoryInterface.getSimpleName();
+            }
+        }
+        return targetClass.getSimpleName();
+    }
+}
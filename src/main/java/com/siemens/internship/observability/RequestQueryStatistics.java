@@ -0,0 +1,105 @@
+package com.siemens.internship.observability;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Per-request counters of the SQL statements executed and entities loaded while
+// a request is handled. Hibernate calls back on the thread that runs the query,
+// so the counters are bound to the request thread and carried over to worker
+// threads through wrap (e.g. the tasks of the processing executor).
+public final class RequestQueryStatistics {
+    private static final ThreadLocal<Counters> CURRENT = new ThreadLocal<>();
+
+    /**
+     *
+     * @param statements     - the number of SQL statements executed
+     * @param entitiesLoaded - the number of entities loaded
+     */
+    public record Snapshot(int statements, int entitiesLoaded) {
+    }
+
+    // Shared by every thread working on the same request
+    public static final class Counters {
+        private final AtomicInteger statements = new AtomicInteger();
+        private final AtomicInteger entitiesLoaded = new AtomicInteger();
+
+        private Counters() {
+        }
+    }
+
+    private RequestQueryStatistics() {
+    }
+
+    public static void start() {
+        CURRENT.set(new Counters());
+    }
+
+    public static void recordStatement() {
+        Counters counters = CURRENT.get();
+        if (counters != null) {
+            counters.statements.incrementAndGet();
+        }
+    }
+
+    public static void recordEntityLoad() {
+        Counters counters = CURRENT.get();
+        if (counters != null) {
+            counters.entitiesLoaded.incrementAndGet();
+        }
+    }
+
+    /**
+     *
+     * @return the counters of the current thread, detached from it so they can be
+     *         resumed on another thread, or null if start was not called
+     */
+    public static Counters suspend() {
+        Counters counters = CURRENT.get();
+        CURRENT.remove();
+        return counters;
+    }
+
+    /**
+     *
+     * @param counters - counters returned by suspend, bound to the current thread;
+     *                 null unbinds any counters
+     */
+    public static void resume(Counters counters) {
+        if (counters == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(counters);
+        }
+    }
+
+    /**
+     *
+     * @param task - the task to be run on another thread
+     * @return the task counting into the counters of the calling thread
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        Counters counters = CURRENT.get();
+        return () -> runWith(counters, task);
+    }
+
+    /**
+     *
+     * @return the counters of the current thread, or null if start was not called
+     */
+    public static Snapshot stop() {
+        Counters counters = suspend();
+        return counters == null ? null
+                : new Snapshot(counters.statements.get(), counters.entitiesLoaded.get());
+    }
+
+    private static <T> T runWith(Counters counters, Supplier<T> task) {
+        // Pool threads are reused, so whatever was bound before is restored
+        Counters previous = suspend();
+        resume(counters);
+        try {
+            return task.get();
+        } finally {
+            resume(previous);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.siemens.internship.repository;
+
+import com.siemens.internship.model.ItemChangeEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ItemChangeEventRepository extends JpaRepository<ItemChangeEvent, Long> {
+    List<ItemChangeEvent> findBySeqGreaterThanOrderBySeqAsc(Long seq, Pageable pageable);
+
+    Optional<ItemChangeEvent> findTopByOrderBySeqDesc();
+}
@@ -0,0 +1,17 @@
+package com.siemens.internship.repository;
+
+import com.siemens.internship.model.ItemChangeSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ItemChangeSequenceRepository extends JpaRepository<ItemChangeSequence, Long> {
+    // SELECT ... FOR UPDATE, held until the calling transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ItemChangeSequence s WHERE s.id = :id")
+    Optional<ItemChangeSequence> findByIdForUpdate(@Param("id") Long id);
+}
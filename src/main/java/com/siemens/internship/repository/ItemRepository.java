@@ -1,12 +1,31 @@
 package com.siemens.internship.repository;
 
 import com.siemens.internship.model.Item;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
+    // Projection used to answer conditional requests without loading the item
+    interface VersionView {
+        Long getVersion();
+
+        Instant getLastModified();
+    }
+
     @Query("SELECT id FROM Item")
     List<Long> findAllIds();
+
+    // Served by the (pending, id) index, so a page is a range scan starting
+    // right after the cursor
+    @Query("SELECT i.id FROM Item i WHERE i.pending = true AND i.id > :afterId ORDER BY i.id")
+    List<Long> findPendingIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT i.version AS version, i.lastModified AS lastModified FROM Item i WHERE i.id = :id")
+    Optional<VersionView> findVersionById(@Param("id") Long id);
 }
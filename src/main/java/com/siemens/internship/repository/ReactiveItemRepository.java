@@ -0,0 +1,143 @@
+package com.siemens.internship.repository;
+
+import com.siemens.internship.model.Item;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+// R2DBC counterpart of ItemRepository for the reactive profile. Rows are
+// streamed to the caller on demand, so a slow consumer slows down the read
+// instead of buffering the whole table.
+@Repository
+@Profile("reactive")
+public class ReactiveItemRepository {
+    private static final String SELECT_ITEM = "SELECT id, name, description, status, email, version, last_modified FROM item";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveItemRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     *
+     * @return all items ordered by id
+     */
+    public Flux<Item> findAll() {
+        return databaseClient.sql(SELECT_ITEM + " ORDER BY id")
+                .map(ReactiveItemRepository::toItem)
+                .all();
+    }
+
+    /**
+     *
+     * @param id - the id of the item to be found
+     * @return the item with the given id, or empty if it does not exist
+     */
+    public Mono<Item> findById(Long id) {
+        return databaseClient.sql(SELECT_ITEM + " WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveItemRepository::toItem)
+                .one();
+    }
+
+    /**
+     *
+     * @param afterId - only ids greater than this one are returned
+     * @param limit   - the maximum number of ids to return
+     * @return the next page of ids in ascending order. The page is read
+     *         completely, so its connection is back in the pool before the ids
+     *         are used.
+     */
+    public Mono<List<Long>> findIdsAfter(long afterId, int limit) {
+        return databaseClient.sql("SELECT id FROM item WHERE id > :afterId ORDER BY id LIMIT :limit")
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(row -> row.get("id", Long.class))
+                .all()
+                .collectList();
+    }
+
+    /**
+     *
+     * @param item - the new item to be inserted, its id is ignored
+     * @return the inserted item with its generated id
+     */
+    public Mono<Item> insert(Item item) {
+        return databaseClient.sql("INSERT INTO item (name, description, status, email, version, last_modified) "
+                + "VALUES (:name, :description, :status, :email, 0, CURRENT_TIMESTAMP)")
+                .bind("name", item.getName())
+                .bind("description", item.getDescription())
+                .bind("status", item.getStatus())
+                .bind("email", item.getEmail())
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .flatMap(this::findById);
+    }
+
+    /**
+     *
+     * @param item - the item to be updated
+     * @return the updated item, or empty if no item with its id exists
+     */
+    public Mono<Item> update(Item item) {
+        return databaseClient.sql("UPDATE item SET name = :name, description = :description, status = :status, "
+                + "email = :email, version = version + 1, last_modified = CURRENT_TIMESTAMP WHERE id = :id")
+                .bind("name", item.getName())
+                .bind("description", item.getDescription())
+                .bind("status", item.getStatus())
+                .bind("email", item.getEmail())
+                .bind("id", item.getId())
+                .fetch()
+                .rowsUpdated()
+                .flatMap(rows -> rows == 0 ? Mono.empty() : findById(item.getId()));
+    }
+
+    /**
+     *
+     * @param id     - the id of the item to be updated
+     * @param status - the new status
+     * @return the updated item, or empty if the item does not exist
+     */
+    public Mono<Item> updateStatus(Long id, String status) {
+        return databaseClient.sql("UPDATE item SET status = :status, version = version + 1, "
+                + "last_modified = CURRENT_TIMESTAMP WHERE id = :id")
+                .bind("status", status)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(rows -> rows == 0 ? Mono.empty() : findById(id));
+    }
+
+    /**
+     *
+     * @param id - the id of the item to be deleted
+     * @return true if an item was deleted
+     */
+    public Mono<Boolean> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM item WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .map(rows -> rows > 0);
+    }
+
+    private static Item toItem(Readable row) {
+        OffsetDateTime lastModified = row.get("last_modified", OffsetDateTime.class);
+        return new Item(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                row.get("status", String.class),
+                row.get("email", String.class),
+                row.get("version", Long.class),
+                lastModified == null ? null : lastModified.toInstant());
+    }
+}
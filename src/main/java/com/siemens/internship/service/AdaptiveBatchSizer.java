@@ -0,0 +1,58 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.config.BackgroundProcessingProperties;
+
+// Adjusts batch size and concurrency of the background processing using
+// additive increase / multiplicative decrease: both grow step by step while the
+// DB keeps up and are halved as soon as latency or error rate go over the
+// configured limits.
+// Only used from the single scheduler thread, so no synchronization is needed.
+public class AdaptiveBatchSizer {
+    private final BackgroundProcessingProperties properties;
+    private int batchSize;
+    private int concurrency;
+
+    public AdaptiveBatchSizer(BackgroundProcessingProperties properties) {
+        this.properties = properties;
+        this.batchSize = clamp(properties.getInitialBatchSize(),
+                properties.getMinBatchSize(), properties.getMaxBatchSize());
+        this.concurrency = clamp(properties.getInitialConcurrency(),
+                properties.getMinConcurrency(), properties.getMaxConcurrency());
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     *
+     * @param averageLatencyMs - the average DB latency per item of the last batch
+     * @param processed        - the number of items processed successfully
+     * @param failed           - the number of items that failed
+     */
+    public void record(double averageLatencyMs, int processed, int failed) {
+        int attempted = processed + failed;
+        if (attempted == 0) {
+            return;
+        }
+
+        double errorRate = (double) failed / attempted;
+        if (averageLatencyMs > properties.getTargetLatencyMs() || errorRate > properties.getMaxErrorRate()) {
+            batchSize = Math.max(properties.getMinBatchSize(), batchSize / 2);
+            concurrency = Math.max(properties.getMinConcurrency(), concurrency / 2);
+        } else if (attempted >= batchSize) {
+            // Only grow when the batch was full, otherwise there is no backlog to
+            // justify a bigger one
+            batchSize = Math.min(properties.getMaxBatchSize(), batchSize + properties.getBatchSizeStep());
+            concurrency = Math.min(properties.getMaxConcurrency(), concurrency + 1);
+        }
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,123 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.config.BackgroundProcessingProperties;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Continuously drains items that are not processed yet, in batches whose size
+// and concurrency follow the observed DB latency and error rate.
+// Batches walk the pending ids with a cursor that wraps around at the end, so a
+// failing item is retried once per sweep instead of heading every batch, and it
+// is parked after too many failed attempts.
+// Never lazy, otherwise nothing would create it and the schedule would not run.
+@Component
+@Profile("!reactive")
+@Lazy(false)
+@ConditionalOnProperty(prefix = "items.processing.background", name = "enabled", havingValue = "true")
+public class BackgroundItemProcessor {
+    private static final Logger log = LoggerFactory.getLogger(BackgroundItemProcessor.class);
+
+    private final ItemService itemService;
+    private final AdaptiveBatchSizer batchSizer;
+    private final ExecutorService executor;
+    private final int maxAttempts;
+    private final Map<Long, Integer> failedAttempts = new ConcurrentHashMap<>();
+    // Last id handed to a batch, only touched by the scheduler thread
+    private long cursor = 0;
+
+    public BackgroundItemProcessor(ItemService itemService, BackgroundProcessingProperties properties) {
+        this.itemService = itemService;
+        this.batchSizer = new AdaptiveBatchSizer(properties);
+        this.maxAttempts = properties.getMaxAttempts();
+        // Sized for the upper concurrency limit, the sizer decides how much of it
+        // is actually used
+        this.executor = Executors.newFixedThreadPool(properties.getMaxConcurrency());
+    }
+
+    /**
+     * Processes one batch of pending items. Uses a fixed delay so a slow batch is
+     * never overlapped by the next one.
+     */
+    @Scheduled(fixedDelayString = "${items.processing.background.interval-ms:1000}")
+    public void drainPendingItems() {
+        int batchSize = batchSizer.getBatchSize();
+        List<Long> page = itemService.findPendingIds(cursor, batchSize);
+        // A short page means the end of the table was reached, the next batch
+        // starts over from the lowest pending id
+        cursor = page.size() < batchSize ? 0 : page.get(page.size() - 1);
+
+        List<Long> pendingIds = page.stream()
+                .filter(id -> failedAttempts.getOrDefault(id, 0) < maxAttempts)
+                .toList();
+        if (pendingIds.isEmpty()) {
+            return;
+        }
+
+        int concurrency = Math.min(batchSizer.getConcurrency(), pendingIds.size());
+        int chunkSize = (pendingIds.size() + concurrency - 1) / concurrency;
+        AtomicLong totalLatencyNanos = new AtomicLong();
+        AtomicInteger failed = new AtomicInteger();
+
+        // Each worker gets a contiguous chunk of ids, so at most `concurrency`
+        // connections are busy at the same time
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int start = 0; start < pendingIds.size(); start += chunkSize) {
+            List<Long> chunk = pendingIds.subList(start, Math.min(start + chunkSize, pendingIds.size()));
+            futures.add(CompletableFuture.runAsync(
+                    () -> processChunk(chunk, totalLatencyNanos, failed), executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        int failedCount = failed.get();
+        double averageLatencyMs = totalLatencyNanos.get() / 1_000_000.0 / pendingIds.size();
+        batchSizer.record(averageLatencyMs, pendingIds.size() - failedCount, failedCount);
+
+        log.debug("Processed batch of {} items ({} failed, {} ms avg), next batch size {} with concurrency {}",
+                pendingIds.size(), failedCount, averageLatencyMs,
+                batchSizer.getBatchSize(), batchSizer.getConcurrency());
+    }
+
+    private void processChunk(List<Long> ids, AtomicLong totalLatencyNanos, AtomicInteger failed) {
+        for (Long id : ids) {
+            long startedAt = System.nanoTime();
+            try {
+                itemService.processItem(id);
+                failedAttempts.remove(id);
+            } catch (RuntimeException runtimeException) {
+                // A failing item is left pending and retried on the next sweep
+                // until it runs out of attempts
+                failed.incrementAndGet();
+                int attempts = failedAttempts.merge(id, 1, Integer::sum);
+                if (attempts >= maxAttempts) {
+                    log.error("Parking item {} after {} failed attempts: {}", id, attempts,
+                            runtimeException.getMessage());
+                } else {
+                    log.warn("Error processing item {}: {}", id, runtimeException.getMessage());
+                }
+            } finally {
+                totalLatencyNanos.addAndGet(System.nanoTime() - startedAt);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,161 @@
+package com.siemens.internship.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemChangeBatch;
+import com.siemens.internship.model.ItemChangeEvent;
+import com.siemens.internship.model.ItemChangeEvent.ChangeType;
+import com.siemens.internship.model.ItemChangeSequence;
+import com.siemens.internship.repository.ItemChangeEventRepository;
+import com.siemens.internship.repository.ItemChangeSequenceRepository;
+import io.micrometer.observation.annotation.Observed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// Transactional outbox for Item writes. Events must be appended inside the
+// transaction of the write they describe, so a change is either visible in both
+// the item table and the feed or in neither.
+// Sequence numbers come from a locked counter row, so appends are serialized and
+// a reader never sees a seq before every lower one has committed. The price is
+// that all Item writes commit one at a time: the lock is held from the append to
+// the commit, so it is taken as the last step of a write, after the items are
+// flushed and the payloads serialized, with one increment per write.
+@Service
+@Observed(name = "items.service")
+@Profile("!reactive")
+public class ItemChangeService {
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    @Autowired
+    private ItemChangeEventRepository itemChangeEventRepository;
+    @Autowired
+    private ItemChangeSequenceRepository itemChangeSequenceRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Creates the counter row on first start, continuing after any events that
+     * are already stored.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    @Transactional
+    public void initializeSequence() {
+        if (!itemChangeSequenceRepository.existsById(ItemChangeSequence.ID)) {
+            long lastSeq = itemChangeEventRepository.findTopByOrderBySeqDesc()
+                    .map(ItemChangeEvent::getSeq)
+                    .orElse(0L);
+            itemChangeSequenceRepository.save(new ItemChangeSequence(ItemChangeSequence.ID, lastSeq));
+        }
+    }
+
+    /**
+     *
+     * @param type - the type of the change
+     * @param item - the item as it is after the change
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChange(ChangeType type, Item item) {
+        recordChanges(type, List.of(item));
+    }
+
+    /**
+     *
+     * @param type  - the type of the changes
+     * @param items - the items as they are after the change, already flushed so
+     *              their version and lastModified are set
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChanges(ChangeType type, List<Item> items) {
+        // Serialized before the counter is locked, keeping the locked part short
+        List<String> payloads = new ArrayList<>(items.size());
+        for (Item item : items) {
+            payloads.add(toJson(item));
+        }
+
+        long seq = allocateSeqs(items.size());
+        Instant occurredAt = Instant.now();
+        List<ItemChangeEvent> events = new ArrayList<>(items.size());
+        for (int index = 0; index < items.size(); index++) {
+            events.add(new ItemChangeEvent(seq + index, items.get(index).getId(), type, occurredAt,
+                    payloads.get(index)));
+        }
+        itemChangeEventRepository.saveAll(events);
+    }
+
+    /**
+     *
+     * @param id - the id of the deleted item
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeletion(Long id) {
+        itemChangeEventRepository.save(
+                new ItemChangeEvent(allocateSeqs(1), id, ChangeType.DELETED, Instant.now(), null));
+    }
+
+    /**
+     *
+     * @param since - the sequence number of the last event already seen, 0 to read
+     *              from the start
+     * @param limit - the maximum number of events to return, capped at
+     *              MAX_BATCH_SIZE
+     * @return the next batch of change events after since, in order
+     */
+    @Transactional(readOnly = true)
+    public ItemChangeBatch findChanges(long since, int limit) {
+        long cursor = Math.max(0, since);
+        int batchSize = Math.max(1, Math.min(limit, MAX_BATCH_SIZE));
+
+        // Read one extra row to know whether another batch is waiting
+        List<ItemChangeEvent> events = itemChangeEventRepository
+                .findBySeqGreaterThanOrderBySeqAsc(cursor, PageRequest.of(0, batchSize + 1));
+        boolean hasMore = events.size() > batchSize;
+        List<ItemChangeEvent> changes = hasMore ? events.subList(0, batchSize) : events;
+        long nextSince = changes.isEmpty() ? cursor : changes.get(changes.size() - 1).getSeq();
+
+        return new ItemChangeBatch(List.copyOf(changes), nextSince, hasMore);
+    }
+
+    /**
+     *
+     * @return the most recent change event, which acts as the version of the
+     *         whole item collection since every write appends one
+     */
+    @Transactional(readOnly = true)
+    public Optional<ItemChangeEvent> findLatestChange() {
+        return itemChangeEventRepository.findTopByOrderBySeqDesc();
+    }
+
+    // Reserves count consecutive seqs and returns the first one. Locks the
+    // counter row until the write transaction ends, the increment is flushed with
+    // it and rolled back with it.
+    private long allocateSeqs(int count) {
+        ItemChangeSequence sequence = itemChangeSequenceRepository.findByIdForUpdate(ItemChangeSequence.ID)
+                .orElseThrow(() -> new IllegalStateException("Change sequence is not initialized"));
+        long first = sequence.getLastSeq() + 1;
+        sequence.setLastSeq(sequence.getLastSeq() + count);
+        return first;
+    }
+
+    private String toJson(Item item) {
+        try {
+            return objectMapper.writeValueAsString(item);
+        } catch (JsonProcessingException jsonProcessingException) {
+            // Failing here rolls back the item write as well, keeping the outbox
+            // complete
+            throw new IllegalStateException("Could not serialize item: " + item.getId(), jsonProcessingException);
+        }
+    }
+}
@@ -1,10 +1,20 @@
 package com.siemens.internship.service;
 
 import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemChangeEvent.ChangeType;
+import com.siemens.internship.observability.RequestQueryStatistics;
 import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.validation.InvalidFieldException;
+import io.micrometer.observation.annotation.Observed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -15,9 +25,19 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 @Service
+@Observed(name = "items.service")
+@Profile("!reactive")
 public class ItemService {
+    private static final Logger log = LoggerFactory.getLogger(ItemService.class);
+
     @Autowired
     private ItemRepository itemRepository;
+    @Autowired
+    private ItemChangeService itemChangeService;
+    // Used by processItemsAsync, where calls to processItem do not go through the
+    // Spring proxy and would otherwise run without a transaction
+    @Autowired
+    private TransactionTemplate transactionTemplate;
     private static final ExecutorService executor = Executors.newFixedThreadPool(10);
     // Using synchronized list to ensure thread safety
     private final List<Item> processedItems = Collections.synchronizedList(new ArrayList<>());
@@ -50,24 +70,90 @@ public class ItemService {
 
     /**
      *
-     * @param item - the item to be saved
+     * @param id - the id of the item
+     * @return the version and last modification time of the item with the given
+     *         id, without loading the item itself
+     */
+    public Optional<ItemRepository.VersionView> findVersionById(Long id) {
+        validateId(id);
+        return itemRepository.findVersionById(id);
+    }
+
+    /**
+     *
+     * @param item - the item to be saved, treated as new when it has no id
      * @return the saved item
      */
+    @Transactional
     public Item save(Item item) {
         if (item == null) {
             throw new IllegalArgumentException("Item cannot be null");
         }
 
-        return itemRepository.save(item);
+        ChangeType type = item.getId() == null ? ChangeType.CREATED : ChangeType.UPDATED;
+        // Flushed first, version and lastModified are only set by Hibernate at
+        // flush and must be part of the change payload
+        Item savedItem = itemRepository.saveAndFlush(item);
+        itemChangeService.recordChange(type, savedItem);
+        return savedItem;
+    }
+
+    /**
+     *
+     * @param items - the new items to be saved
+     * @return the saved items, in the same order
+     */
+    @Transactional
+    public List<Item> saveAll(List<Item> items) {
+        if (items == null || items.isEmpty()) {
+            throw new InvalidFieldException("items", "Items cannot be empty");
+        }
+
+        List<Item> savedItems = itemRepository.saveAllAndFlush(items);
+        // One append for the whole batch, the outbox lock is only taken once
+        itemChangeService.recordChanges(ChangeType.CREATED, savedItems);
+        return savedItems;
     }
 
     /**
      *
      * @param id - the id of the item to be deleted
      */
+    @Transactional
     public void deleteById(Long id) {
         validateId(id);
         itemRepository.deleteById(id);
+        itemChangeService.recordDeletion(id);
+    }
+
+    /**
+     *
+     * @param afterId - only ids greater than this one are returned
+     * @param limit - the maximum number of ids to return
+     * @return the ids of items that are not processed yet, in ascending order
+     */
+    public List<Long> findPendingIds(long afterId, int limit) {
+        return itemRepository.findPendingIdsAfter(afterId, PageRequest.of(0, limit));
+    }
+
+    /**
+     *
+     * @param id - the id of the item to be processed
+     * @return the item with its status set to processed
+     * @throws RuntimeException if the item is not found
+     */
+    @Transactional
+    public Item processItem(Long id) {
+        Item item = itemRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Item not found: " + id));
+
+        // Each item is modified by a single thread, so no need to synchronize
+        item.setStatus(Item.PROCESSED_STATUS);
+
+        // Spring Data JPA is thread-safe, so no need to synchronize
+        Item savedItem = itemRepository.saveAndFlush(item);
+        itemChangeService.recordChange(ChangeType.UPDATED, savedItem);
+        return savedItem;
     }
 
     // The original implementation had several critical issues:
@@ -100,22 +186,16 @@ public class ItemService {
         for (Long id : itemIds) {
             // Using supplyAsync instead of runAsync to return the processed item
             // This allows collection of results
-            CompletableFuture<Item> future = CompletableFuture.supplyAsync(() -> {
+            // Wrapped so the queries of the worker thread count towards the request
+            CompletableFuture<Item> future = CompletableFuture.supplyAsync(RequestQueryStatistics.wrap(() -> {
                 try {
                     Thread.sleep(100);
 
-                    Item item = itemRepository.findById(id)
-                            .orElseThrow(() -> new RuntimeException("Item not found: " + id));
+                    Item savedItem = transactionTemplate.execute(status -> processItem(id));
 
                     // Thread-safe increment using AtomicInteger
                     processedCount.incrementAndGet();
 
-                    // Each item is modified by a single thread, so no need to synchronize
-                    item.setStatus("PROCESSED");
-
-                    // Spring Data JPA is thread-safe, so no need to synchronize
-                    Item savedItem = itemRepository.save(item);
-
                     // Thread-safe add to synchronized list
                     processedItems.add(savedItem);
 
@@ -126,7 +206,7 @@ public class ItemService {
                 } catch (RuntimeException runtimeException) { // Handle runtime exceptions when the item is not found
                     throw new CompletionException("Error processing item: " + id, runtimeException);
                 }
-            }, executor);
+            }), executor);
 
             futures.add(future); // Add the future to the list to be combined later
         }
@@ -138,7 +218,7 @@ public class ItemService {
                         .collect(Collectors.toList()))
                 .exceptionally(exception -> {
                     // Log and rethrow as needed
-                    System.err.println("Error processing items: " + exception.getMessage());
+                    log.error("Error processing items", exception);
                     throw new CompletionException(exception);
                 });
     }
@@ -150,11 +230,11 @@ public class ItemService {
      */
     private void validateId(Long id) {
         if (id == null) {
-            throw new IllegalArgumentException("Id cannot be null");
+            throw new InvalidFieldException("id", "Id cannot be null");
         }
 
         if (id <= 0) {
-            throw new IllegalArgumentException("Id cannot be negative or zero");
+            throw new InvalidFieldException("id", "Id cannot be negative or zero");
         }
     }
 }
@@ -0,0 +1,133 @@
+package com.siemens.internship.service;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.repository.ReactiveItemRepository;
+import com.siemens.internship.validation.InvalidFieldException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+// Reactive counterpart of ItemService for the reactive profile. Nothing here
+// blocks a thread: the simulated work is a timer and the database access is
+// R2DBC, so waiting requests cost memory but no threads.
+@Service
+@Profile("reactive")
+public class ReactiveItemService {
+    // Same simulated work per item as ItemService.processItemsAsync
+    private static final Duration PROCESSING_DELAY = Duration.ofMillis(100);
+    // Items processed at the same time, each holds a pool connection while its
+    // update runs
+    private static final int PROCESSING_CONCURRENCY = 8;
+    // Ids read per query. A page is read completely before its items are
+    // processed; keeping the id query open while the updates wait for
+    // connections would deadlock once they exhaust the pool.
+    public static final int ID_PAGE_SIZE = 100;
+
+    @Autowired
+    private ReactiveItemRepository itemRepository;
+
+    /**
+     *
+     * @return all items from the database
+     */
+    public Flux<Item> findAll() {
+        return itemRepository.findAll();
+    }
+
+    /**
+     *
+     * @param id - the id of the item to be found
+     * @return the item with the given id
+     */
+    public Mono<Item> findById(Long id) {
+        validateId(id);
+        return itemRepository.findById(id);
+    }
+
+    /**
+     *
+     * @param item - the new item to be saved
+     * @return the saved item
+     */
+    public Mono<Item> create(Item item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Item cannot be null");
+        }
+
+        return itemRepository.insert(item);
+    }
+
+    /**
+     *
+     * @param id   - the id of the item to be updated
+     * @param item - the new values of the item
+     * @return the updated item, or empty if the item is not found
+     */
+    public Mono<Item> update(Long id, Item item) {
+        validateId(id);
+        if (item == null) {
+            throw new IllegalArgumentException("Item cannot be null");
+        }
+
+        item.setId(id);
+        return itemRepository.update(item);
+    }
+
+    /**
+     *
+     * @param id - the id of the item to be deleted
+     * @return true if the item was deleted, false if it was not found
+     */
+    public Mono<Boolean> deleteById(Long id) {
+        validateId(id);
+        return itemRepository.deleteById(id);
+    }
+
+    /**
+     *
+     * @return every item processed, in id order. Ids are read one page at a
+     *         time, the next page only once the current one is processed.
+     */
+    public Flux<Item> processItems() {
+        return processPage(0L);
+    }
+
+    /**
+     *
+     * @param afterId - the last id of the previous page, 0 for the first page
+     * @return the items of this page and of all following pages, processed
+     */
+    private Flux<Item> processPage(long afterId) {
+        return itemRepository.findIdsAfter(afterId, ID_PAGE_SIZE)
+                .flatMapMany(ids -> {
+                    Flux<Item> processed = Flux.fromIterable(ids)
+                            .flatMapSequential(id -> Mono.delay(PROCESSING_DELAY)
+                                    .then(itemRepository.updateStatus(id, Item.PROCESSED_STATUS))
+                                    .switchIfEmpty(Mono.error(() -> new RuntimeException("Item not found: " + id))),
+                                    PROCESSING_CONCURRENCY);
+                    // A short page is the last one
+                    return ids.size() < ID_PAGE_SIZE
+                            ? processed
+                            : processed.concatWith(Flux.defer(() -> processPage(ids.get(ids.size() - 1))));
+                });
+    }
+
+    /**
+     *
+     * @param id - the id of the item to be validated
+     * @throws IllegalArgumentException if the id is null or negative or zero
+     */
+    private void validateId(Long id) {
+        if (id == null) {
+            throw new InvalidFieldException("id", "Id cannot be null");
+        }
+
+        if (id <= 0) {
+            throw new InvalidFieldException("id", "Id cannot be negative or zero");
+        }
+    }
+}
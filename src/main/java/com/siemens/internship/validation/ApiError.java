@@ -0,0 +1,23 @@
+package com.siemens.internship.validation;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Error entry returned by ValidationExceptionHandler, serialized as
+ * {"field", "message"} for field errors and {"error", "message"} otherwise.
+ *
+ * @param field   - the field the error refers to, null for general errors
+ * @param error   - the error name, null for field errors
+ * @param message - the error message
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ApiError(String field, String error, String message) {
+
+    public static ApiError fieldError(String field, String message) {
+        return new ApiError(field, null, message);
+    }
+
+    public static ApiError error(String error, String message) {
+        return new ApiError(null, error, message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.siemens.internship.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Email check against a single precompiled pattern. Replaces @Email(regexp = ...),
+// which ran Hibernate Validator's own email parsing and then the regex on top.
+@Documented
+@Constraint(validatedBy = EmailAddressValidator.class)
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EmailAddress {
+    String message() default "Invalid email format";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
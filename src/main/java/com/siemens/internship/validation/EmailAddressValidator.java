@@ -0,0 +1,22 @@
+package com.siemens.internship.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.util.regex.Pattern;
+
+public class EmailAddressValidator implements ConstraintValidator<EmailAddress, String> {
+    // Compiled once and shared by all validator instances, Pattern is thread-safe
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$");
+
+    /**
+     *
+     * @param value   - the email to be validated
+     * @param context - the validation context
+     * @return true if the email matches the pattern; null is left to @NotBlank
+     */
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        return value == null || EMAIL_PATTERN.matcher(value).matches();
+    }
+}
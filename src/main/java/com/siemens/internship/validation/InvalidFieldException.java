@@ -0,0 +1,16 @@
+package com.siemens.internship.validation;
+
+// An invalid argument that can be attributed to a single request field, such as
+// the id path variable
+public class InvalidFieldException extends IllegalArgumentException {
+    private final String field;
+
+    public InvalidFieldException(String field, String message) {
+        super(message);
+        this.field = field;
+    }
+
+    public String getField() {
+        return field;
+    }
+}
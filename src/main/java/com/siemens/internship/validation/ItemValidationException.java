@@ -0,0 +1,18 @@
+package com.siemens.internship.validation;
+
+import java.util.List;
+
+// Carries all errors found while validating a request that is not validated by
+// @Valid, such as a bulk payload
+public class ItemValidationException extends RuntimeException {
+    private final List<ApiError> errors;
+
+    public ItemValidationException(List<ApiError> errors) {
+        super("Validation failed with " + errors.size() + " error(s)");
+        this.errors = List.copyOf(errors);
+    }
+
+    public List<ApiError> getErrors() {
+        return errors;
+    }
+}
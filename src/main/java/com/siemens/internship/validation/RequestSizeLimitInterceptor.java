@@ -0,0 +1,32 @@
+package com.siemens.internship.validation;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// Rejects request bodies above a size limit from their Content-Length. Runs
+// before argument resolution, so an oversized @RequestBody is never read or
+// deserialized.
+public class RequestSizeLimitInterceptor implements HandlerInterceptor {
+    private final long maxRequestBytes;
+
+    public RequestSizeLimitInterceptor(long maxRequestBytes) {
+        this.maxRequestBytes = maxRequestBytes;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long contentLength = request.getContentLengthLong();
+        // A chunked body of unknown length could only be checked after reading it
+        if (contentLength < 0) {
+            throw new ResponseStatusException(HttpStatus.LENGTH_REQUIRED, "Content-Length is required");
+        }
+        if (contentLength > maxRequestBytes) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Request body must not exceed " + maxRequestBytes + " bytes");
+        }
+        return true;
+    }
+}
@@ -1,70 +1,171 @@
 package com.siemens.internship.validation;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 @RestControllerAdvice
 public class ValidationExceptionHandler {
+        private static final Logger log = LoggerFactory.getLogger(ValidationExceptionHandler.class);
+
+        // Responses without request specific details are built once and shared
+        private static final List<ApiError> MALFORMED_REQUEST = List.of(
+                        ApiError.error("Bad Request", "Malformed request body"));
+        private static final List<ApiError> CONFLICT = List.of(
+                        ApiError.error("Conflict", "The item was modified concurrently, reload it and retry"));
+        private static final List<ApiError> INTERNAL_SERVER_ERROR = List.of(
+                        ApiError.error("Internal Server Error", "An unexpected error occurred"));
 
         /**
          *
          * @param methodArgumentNotValidException - the exception to be handled
-         * @return a response entity with the errors in a format of a list of maps
-         *         with the field and the message
+         * @return a bad request response with one error per invalid field
          */
         @ExceptionHandler(MethodArgumentNotValidException.class)
-        public ResponseEntity<List<Map<String, String>>> handleValidationExceptions(
+        public ResponseEntity<List<ApiError>> handleValidationExceptions(
                         MethodArgumentNotValidException methodArgumentNotValidException) {
 
-                List<Map<String, String>> errors = methodArgumentNotValidException
-                                .getBindingResult().getFieldErrors().stream()
-                                .map(error -> Map.of(
-                                                "field", error.getField(),
-                                                "message", error.getDefaultMessage()))
-                                .toList();
+                List<FieldError> fieldErrors = methodArgumentNotValidException
+                                .getBindingResult().getFieldErrors();
+                List<ApiError> errors = new ArrayList<>(fieldErrors.size());
+                for (FieldError fieldError : fieldErrors) {
+                        errors.add(ApiError.fieldError(fieldError.getField(), fieldError.getDefaultMessage()));
+                }
 
                 return ResponseEntity.badRequest().body(errors);
         }
 
+        /**
+         *
+         * @param webExchangeBindException - the exception to be handled, the
+         *                                 reactive counterpart of
+         *                                 MethodArgumentNotValidException
+         * @return a bad request response with one error per invalid field
+         */
+        @ExceptionHandler(WebExchangeBindException.class)
+        public ResponseEntity<List<ApiError>> handleWebExchangeBindException(
+                        WebExchangeBindException webExchangeBindException) {
+
+                List<FieldError> fieldErrors = webExchangeBindException.getFieldErrors();
+                List<ApiError> errors = new ArrayList<>(fieldErrors.size());
+                for (FieldError fieldError : fieldErrors) {
+                        errors.add(ApiError.fieldError(fieldError.getField(), fieldError.getDefaultMessage()));
+                }
+
+                return ResponseEntity.badRequest().body(errors);
+        }
+
+        /**
+         *
+         * @param itemValidationException - the exception to be handled
+         * @return a bad request response with all errors collected during validation
+         */
+        @ExceptionHandler(ItemValidationException.class)
+        public ResponseEntity<List<ApiError>> handleItemValidationException(
+                        ItemValidationException itemValidationException) {
+                return ResponseEntity.badRequest().body(itemValidationException.getErrors());
+        }
+
+        /**
+         *
+         * @param invalidFieldException - the exception to be handled
+         * @return a bad request response naming the invalid field
+         */
+        @ExceptionHandler(InvalidFieldException.class)
+        public ResponseEntity<List<ApiError>> handleInvalidFieldException(
+                        InvalidFieldException invalidFieldException) {
+                return ResponseEntity.badRequest()
+                                .body(List.of(ApiError.fieldError(invalidFieldException.getField(),
+                                                invalidFieldException.getMessage())));
+        }
+
         /**
          *
          * @param illegalArgumentException - the exception to be handled
-         * @return a response entity with the errors in a format of a list of maps
-         *         with the field and the message
+         * @return a bad request response with a general error, the argument cannot
+         *         be attributed to a field
          */
         @ExceptionHandler(IllegalArgumentException.class)
-        public ResponseEntity<List<Map<String, String>>> handleIllegalArgumentException(
+        public ResponseEntity<List<ApiError>> handleIllegalArgumentException(
                         IllegalArgumentException illegalArgumentException) {
+                return ResponseEntity.badRequest()
+                                .body(List.of(ApiError.error("Bad Request", illegalArgumentException.getMessage())));
+        }
 
-                List<Map<String, String>> errors = List.of(
-                                Map.of(
-                                                "field", "id",
-                                                "message", illegalArgumentException.getMessage()));
+        /**
+         *
+         * @param methodArgumentTypeMismatchException - the exception to be handled
+         * @return a bad request response naming the parameter that could not be
+         *         converted
+         */
+        @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+        public ResponseEntity<List<ApiError>> handleMethodArgumentTypeMismatchException(
+                        MethodArgumentTypeMismatchException methodArgumentTypeMismatchException) {
+                return ResponseEntity.badRequest()
+                                .body(List.of(ApiError.fieldError(methodArgumentTypeMismatchException.getName(),
+                                                "Invalid value")));
+        }
 
-                return ResponseEntity.badRequest().body(errors);
+        /**
+         *
+         * @param httpMessageNotReadableException - the exception to be handled
+         * @return a bad request response for a missing or unparsable body
+         */
+        @ExceptionHandler(HttpMessageNotReadableException.class)
+        public ResponseEntity<List<ApiError>> handleHttpMessageNotReadableException(
+                        HttpMessageNotReadableException httpMessageNotReadableException) {
+                return ResponseEntity.badRequest().body(MALFORMED_REQUEST);
         }
 
         /**
          *
-         * @param runtimeException - the exception to be handled
-         * @return a response entity with the errors in a format of a list of maps
-         *         with the error and the message
+         * @param responseStatusException - the exception to be handled, e.g. an
+         *                                unreadable request in the reactive stack
+         * @return a response with the status carried by the exception
          */
-        @ExceptionHandler(RuntimeException.class)
-        public ResponseEntity<List<Map<String, String>>> handleRuntimeException(
-                        RuntimeException runtimeException) {
+        @ExceptionHandler(ResponseStatusException.class)
+        public ResponseEntity<List<ApiError>> handleResponseStatusException(
+                        ResponseStatusException responseStatusException) {
+                HttpStatus status = HttpStatus.resolve(responseStatusException.getStatusCode().value());
+                String error = status != null ? status.getReasonPhrase()
+                                : responseStatusException.getStatusCode().toString();
+                return ResponseEntity.status(responseStatusException.getStatusCode())
+                                .body(List.of(ApiError.error(error, responseStatusException.getReason())));
+        }
 
-                List<Map<String, String>> errors = List.of(
-                                Map.of(
-                                                "error", "Internal Server Error",
-                                                "message", runtimeException.getMessage()));
+        /**
+         *
+         * @param optimisticLockingFailureException - the exception to be handled
+         * @return a conflict response for concurrent updates of the same item
+         */
+        @ExceptionHandler(OptimisticLockingFailureException.class)
+        public ResponseEntity<List<ApiError>> handleOptimisticLockingFailureException(
+                        OptimisticLockingFailureException optimisticLockingFailureException) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(CONFLICT);
+        }
 
-                return ResponseEntity.badRequest().body(errors);
+        /**
+         *
+         * @param runtimeException - the exception to be handled
+         * @return an internal server error response; the exception is logged but its
+         *         message is not exposed to the client
+         */
+        @ExceptionHandler(RuntimeException.class)
+        public ResponseEntity<List<ApiError>> handleRuntimeException(RuntimeException runtimeException) {
+                log.error("Unhandled error", runtimeException);
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(INTERNAL_SERVER_ERROR);
         }
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+-- Schema of the reactive profile. Ids come from an identity column because the
+-- R2DBC repository has no JPA sequence allocation.
+
+CREATE TABLE IF NOT EXISTS item (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    description VARCHAR(100) NOT NULL,
+    status VARCHAR(100) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    last_modified TIMESTAMP(6) WITH TIME ZONE
+);
@@ -0,0 +1,32 @@
+-- Schema used with spring.jpa.hibernate.ddl-auto=validate (prod profile).
+-- Must be kept in sync with the entities in com.siemens.internship.model.
+
+CREATE SEQUENCE IF NOT EXISTS item_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS item (
+    id BIGINT NOT NULL PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    description VARCHAR(100) NOT NULL,
+    status VARCHAR(100) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    version BIGINT,
+    last_modified TIMESTAMP(6) WITH TIME ZONE,
+    pending BOOLEAN NOT NULL DEFAULT TRUE
+);
+
+CREATE INDEX IF NOT EXISTS idx_item_pending ON item (pending, id);
+
+CREATE TABLE IF NOT EXISTS item_change_event (
+    seq BIGINT NOT NULL PRIMARY KEY,
+    item_id BIGINT NOT NULL,
+    type VARCHAR(16) NOT NULL,
+    occurred_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    payload VARCHAR(4000)
+);
+
+CREATE INDEX IF NOT EXISTS idx_item_change_event_item ON item_change_event (item_id);
+
+CREATE TABLE IF NOT EXISTS item_change_sequence (
+    id BIGINT NOT NULL PRIMARY KEY,
+    last_seq BIGINT NOT NULL
+);
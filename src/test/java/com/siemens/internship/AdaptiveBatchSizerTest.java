@@ -0,0 +1,95 @@
+package com.siemens.internship;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.siemens.internship.config.BackgroundProcessingProperties;
+import com.siemens.internship.service.AdaptiveBatchSizer;
+
+// Unit tests for the AIMD behaviour of AdaptiveBatchSizer
+public class AdaptiveBatchSizerTest {
+
+    private BackgroundProcessingProperties properties;
+    private AdaptiveBatchSizer batchSizer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new BackgroundProcessingProperties();
+        properties.setInitialBatchSize(10);
+        properties.setMinBatchSize(2);
+        properties.setMaxBatchSize(30);
+        properties.setBatchSizeStep(10);
+        properties.setInitialConcurrency(2);
+        properties.setMinConcurrency(1);
+        properties.setMaxConcurrency(3);
+        properties.setTargetLatencyMs(50);
+        properties.setMaxErrorRate(0.1);
+
+        batchSizer = new AdaptiveBatchSizer(properties);
+    }
+
+    @Test
+    public void testRecord_FullHealthyBatch_GrowsUpToMax() {
+        batchSizer.record(10, 10, 0);
+
+        assertEquals(20, batchSizer.getBatchSize());
+        assertEquals(3, batchSizer.getConcurrency());
+
+        batchSizer.record(10, 20, 0);
+        batchSizer.record(10, 30, 0);
+
+        assertEquals(30, batchSizer.getBatchSize());
+        assertEquals(3, batchSizer.getConcurrency());
+    }
+
+    @Test
+    public void testRecord_PartialHealthyBatch_KeepsSize() {
+        batchSizer.record(10, 4, 0);
+
+        assertEquals(10, batchSizer.getBatchSize());
+        assertEquals(2, batchSizer.getConcurrency());
+    }
+
+    @Test
+    public void testRecord_HighLatency_ShrinksDownToMin() {
+        batchSizer.record(100, 10, 0);
+
+        assertEquals(5, batchSizer.getBatchSize());
+        assertEquals(1, batchSizer.getConcurrency());
+
+        batchSizer.record(100, 5, 0);
+        batchSizer.record(100, 2, 0);
+
+        assertEquals(2, batchSizer.getBatchSize());
+        assertEquals(1, batchSizer.getConcurrency());
+    }
+
+    @Test
+    public void testRecord_HighErrorRate_Shrinks() {
+        batchSizer.record(10, 8, 2);
+
+        assertEquals(5, batchSizer.getBatchSize());
+        assertEquals(1, batchSizer.getConcurrency());
+    }
+
+    @Test
+    public void testRecord_EmptyBatch_KeepsSize() {
+        batchSizer.record(0, 0, 0);
+
+        assertEquals(10, batchSizer.getBatchSize());
+        assertEquals(2, batchSizer.getConcurrency());
+    }
+
+    @Test
+    public void testConstructor_InitialValuesOutOfBounds_AreClamped() {
+        properties.setInitialBatchSize(1000);
+        properties.setInitialConcurrency(0);
+
+        AdaptiveBatchSizer clamped = new AdaptiveBatchSizer(properties);
+
+        assertEquals(30, clamped.getBatchSize());
+        assertEquals(1, clamped.getConcurrency());
+    }
+}
@@ -0,0 +1,73 @@
+package com.siemens.internship;
+
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.siemens.internship.config.BackgroundProcessingProperties;
+import com.siemens.internship.service.BackgroundItemProcessor;
+import com.siemens.internship.service.ItemService;
+
+// Unit tests for the cursor and parking behaviour of BackgroundItemProcessor
+public class BackgroundItemProcessorTest {
+
+    private ItemService itemService;
+    private BackgroundItemProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        BackgroundProcessingProperties properties = new BackgroundProcessingProperties();
+        properties.setInitialBatchSize(2);
+        properties.setMinBatchSize(2);
+        properties.setMaxBatchSize(2);
+        properties.setMaxAttempts(2);
+
+        itemService = mock(ItemService.class);
+        processor = new BackgroundItemProcessor(itemService, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    @Test
+    public void testDrainPendingItems_FailingItem_NextBatchContinuesAfterIt() {
+        when(itemService.findPendingIds(0L, 2)).thenReturn(List.of(1L, 2L));
+        when(itemService.findPendingIds(2L, 2)).thenReturn(List.of(3L));
+        when(itemService.processItem(1L)).thenThrow(new RuntimeException("Item not found: 1"));
+
+        processor.drainPendingItems();
+        processor.drainPendingItems();
+
+        verify(itemService).processItem(2L);
+        verify(itemService).processItem(3L);
+    }
+
+    @Test
+    public void testDrainPendingItems_EndOfTable_WrapsAround() {
+        when(itemService.findPendingIds(0L, 2)).thenReturn(List.of(1L));
+
+        processor.drainPendingItems();
+        processor.drainPendingItems();
+
+        verify(itemService, times(2)).findPendingIds(0L, 2);
+        verify(itemService, times(2)).processItem(1L);
+    }
+
+    @Test
+    public void testDrainPendingItems_RepeatedlyFailingItem_IsParked() {
+        when(itemService.findPendingIds(0L, 2)).thenReturn(List.of(1L));
+        when(itemService.processItem(1L)).thenThrow(new RuntimeException("Item not found: 1"));
+
+        processor.drainPendingItems();
+        processor.drainPendingItems();
+        processor.drainPendingItems();
+
+        verify(itemService, times(2)).processItem(1L);
+    }
+}
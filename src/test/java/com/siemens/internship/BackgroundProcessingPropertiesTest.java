@@ -0,0 +1,67 @@
+package com.siemens.internship;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Set;
+
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.siemens.internship.config.BackgroundProcessingProperties;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+// Unit tests for the bind time constraints of BackgroundProcessingProperties
+public class BackgroundProcessingPropertiesTest {
+
+    private Validator validator;
+    private BackgroundProcessingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        validator = Validation.byDefaultProvider()
+                .configure()
+                .messageInterpolator(new ParameterMessageInterpolator())
+                .buildValidatorFactory()
+                .getValidator();
+        properties = new BackgroundProcessingProperties();
+    }
+
+    @Test
+    public void testValidate_Defaults_AreValid() {
+        assertTrue(validator.validate(properties).isEmpty());
+    }
+
+    @Test
+    public void testValidate_ZeroMinConcurrency_IsRejected() {
+        properties.setMinConcurrency(0);
+
+        assertTrue(hasViolation(validator.validate(properties), "minConcurrency"));
+    }
+
+    @Test
+    public void testValidate_ZeroMinBatchSize_IsRejected() {
+        properties.setMinBatchSize(0);
+
+        assertTrue(hasViolation(validator.validate(properties), "minBatchSize"));
+    }
+
+    @Test
+    public void testValidate_MinAboveMax_IsRejected() {
+        properties.setMinBatchSize(600);
+        properties.setMinConcurrency(20);
+
+        Set<ConstraintViolation<BackgroundProcessingProperties>> violations = validator.validate(properties);
+
+        assertTrue(hasViolation(violations, "batchSizeRangeValid"));
+        assertTrue(hasViolation(violations, "concurrencyRangeValid"));
+    }
+
+    private boolean hasViolation(Set<ConstraintViolation<BackgroundProcessingProperties>> violations,
+            String property) {
+        return violations.stream().anyMatch(violation -> property.equals(violation.getPropertyPath().toString()));
+    }
+}
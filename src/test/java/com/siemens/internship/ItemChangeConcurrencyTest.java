@@ -0,0 +1,75 @@
+package com.siemens.internship;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemChangeBatch;
+import com.siemens.internship.model.ItemChangeEvent;
+import com.siemens.internship.service.ItemChangeService;
+import com.siemens.internship.service.ItemService;
+
+// Tails the change feed against the real database while several writers append
+// to it, checking the reader never sees a seq before all lower ones
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class ItemChangeConcurrencyTest {
+
+    private static final int WRITERS = 8;
+    private static final int WRITES_PER_WRITER = 25;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemChangeService itemChangeService;
+
+    @Test
+    public void testConcurrentWriters_ReaderSeesEverySeqInOrder() throws Exception {
+        long cursor = itemChangeService.findLatestChange().map(ItemChangeEvent::getSeq).orElse(0L);
+        long expectedLastSeq = cursor + WRITERS * WRITES_PER_WRITER;
+
+        ExecutorService writers = Executors.newFixedThreadPool(WRITERS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int writer = 0; writer < WRITERS; writer++) {
+            int writerId = writer;
+            futures.add(writers.submit(() -> {
+                for (int i = 0; i < WRITES_PER_WRITER; i++) {
+                    itemService.save(new Item(null, "Item " + writerId + "-" + i, "Test Description",
+                            "UNPROCESSED", "test@example.com", null, null));
+                }
+            }));
+        }
+
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (cursor < expectedLastSeq) {
+                assertTrue(System.nanoTime() < deadline, "Feed stopped at seq " + cursor);
+                ItemChangeBatch batch = itemChangeService.findChanges(cursor, 10);
+                for (ItemChangeEvent event : batch.changes()) {
+                    // A skipped seq would be lost for good, since the next read
+                    // starts after nextSince
+                    assertEquals(cursor + 1, event.getSeq());
+                    cursor = event.getSeq();
+                }
+                assertEquals(cursor, batch.nextSince());
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            writers.shutdownNow();
+        }
+
+        assertEquals(expectedLastSeq, cursor);
+    }
+}
@@ -0,0 +1,88 @@
+package com.siemens.internship;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemChangeEvent;
+import com.siemens.internship.model.ItemChangeEvent.ChangeType;
+import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.service.ItemChangeService;
+import com.siemens.internship.service.ItemService;
+
+// Checks against the real database that change payloads carry the version and
+// last modification time Hibernate stored for the item
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class ItemChangePayloadTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemChangeService itemChangeService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    public void testCreateAndUpdate_PayloadMatchesStoredRow() throws Exception {
+        long cursor = itemChangeService.findLatestChange().map(ItemChangeEvent::getSeq).orElse(0L);
+
+        Item created = itemService.save(new Item(null, "Test Item", "Test Description", "UNPROCESSED",
+                "test@example.com", null, null));
+        assertPayloadMatchesStoredRow(latestChange(cursor, ChangeType.CREATED), created.getId());
+
+        Item update = new Item(created.getId(), "Test Item", "Updated Description", "UNPROCESSED",
+                "test@example.com", created.getVersion(), null);
+        itemService.save(update);
+        assertPayloadMatchesStoredRow(latestChange(cursor, ChangeType.UPDATED), created.getId());
+    }
+
+    @Test
+    public void testSaveAll_PayloadsMatchStoredRows() throws Exception {
+        long cursor = itemChangeService.findLatestChange().map(ItemChangeEvent::getSeq).orElse(0L);
+
+        List<Item> saved = itemService.saveAll(List.of(
+                new Item(null, "Item 1", "Test Description", "UNPROCESSED", "test1@example.com", null, null),
+                new Item(null, "Item 2", "Test Description", "UNPROCESSED", "test2@example.com", null, null)));
+
+        List<ItemChangeEvent> changes = itemChangeService.findChanges(cursor, 10).changes();
+        assertEquals(2, changes.size());
+        for (int i = 0; i < saved.size(); i++) {
+            assertPayloadMatchesStoredRow(changes.get(i), saved.get(i).getId());
+        }
+    }
+
+    private ItemChangeEvent latestChange(long since, ChangeType type) {
+        List<ItemChangeEvent> changes = itemChangeService.findChanges(since, 100).changes();
+        ItemChangeEvent latest = changes.get(changes.size() - 1);
+        assertEquals(type, latest.getType());
+        return latest;
+    }
+
+    private void assertPayloadMatchesStoredRow(ItemChangeEvent event, Long id) throws Exception {
+        Item payload = objectMapper.readValue(event.getPayload(), Item.class);
+        Item stored = itemRepository.findById(id).orElseThrow();
+
+        assertEquals(id, event.getItemId());
+        assertEquals(stored.getVersion(), payload.getVersion());
+        assertNotNull(payload.getLastModified());
+        // The column keeps microseconds, the in-memory timestamp may have more
+        assertEquals(micros(stored.getLastModified()), micros(payload.getLastModified()));
+    }
+
+    private static Instant micros(Instant instant) {
+        return instant.truncatedTo(ChronoUnit.MICROS);
+    }
+}
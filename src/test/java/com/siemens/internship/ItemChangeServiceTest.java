@@ -0,0 +1,189 @@
+package com.siemens.internship;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemChangeBatch;
+import com.siemens.internship.model.ItemChangeEvent;
+import com.siemens.internship.model.ItemChangeEvent.ChangeType;
+import com.siemens.internship.model.ItemChangeSequence;
+import com.siemens.internship.repository.ItemChangeEventRepository;
+import com.siemens.internship.repository.ItemChangeSequenceRepository;
+import com.siemens.internship.service.ItemChangeService;
+
+// Unit tests for ItemChangeService with a mock change event repository
+@ExtendWith(MockitoExtension.class)
+public class ItemChangeServiceTest {
+
+    @Mock
+    private ItemChangeEventRepository itemChangeEventRepository;
+
+    @Mock
+    private ItemChangeSequenceRepository itemChangeSequenceRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @InjectMocks
+    private ItemChangeService itemChangeService;
+
+    @Test
+    public void testRecordChange_SavesEventWithPayload() {
+        when(itemChangeSequenceRepository.findByIdForUpdate(ItemChangeSequence.ID))
+                .thenReturn(Optional.of(new ItemChangeSequence(ItemChangeSequence.ID, 41L)));
+        Item item = new Item(1L, "Test Item", "Test Description", "PROCESSED", "test@example.com",
+                1L, Instant.now());
+
+        itemChangeService.recordChange(ChangeType.UPDATED, item);
+
+        List<ItemChangeEvent> events = captureSavedEvents();
+        assertEquals(1, events.size());
+        assertEquals(42L, events.get(0).getSeq());
+        assertEquals(1L, events.get(0).getItemId());
+        assertEquals(ChangeType.UPDATED, events.get(0).getType());
+        assertTrue(events.get(0).getPayload().contains("\"status\":\"PROCESSED\""));
+        assertTrue(events.get(0).getPayload().contains("\"version\":1"));
+    }
+
+    @Test
+    public void testRecordChanges_Batch_AllocatesConsecutiveSeqsWithOneLock() {
+        ItemChangeSequence sequence = new ItemChangeSequence(ItemChangeSequence.ID, 10L);
+        when(itemChangeSequenceRepository.findByIdForUpdate(ItemChangeSequence.ID))
+                .thenReturn(Optional.of(sequence));
+        List<Item> items = Arrays.asList(
+                new Item(1L, "Test Item 1", "Test Description", "UNPROCESSED", "test1@example.com", 0L,
+                        Instant.now()),
+                new Item(2L, "Test Item 2", "Test Description", "UNPROCESSED", "test2@example.com", 0L,
+                        Instant.now()),
+                new Item(3L, "Test Item 3", "Test Description", "UNPROCESSED", "test3@example.com", 0L,
+                        Instant.now()));
+
+        itemChangeService.recordChanges(ChangeType.CREATED, items);
+
+        List<ItemChangeEvent> events = captureSavedEvents();
+        assertEquals(Arrays.asList(11L, 12L, 13L), events.stream().map(ItemChangeEvent::getSeq).toList());
+        assertEquals(Arrays.asList(1L, 2L, 3L), events.stream().map(ItemChangeEvent::getItemId).toList());
+        assertEquals(13L, sequence.getLastSeq());
+        verify(itemChangeSequenceRepository, times(1)).findByIdForUpdate(ItemChangeSequence.ID);
+    }
+
+    @Test
+    public void testRecordDeletion_SavesEventWithoutPayload() {
+        when(itemChangeSequenceRepository.findByIdForUpdate(ItemChangeSequence.ID))
+                .thenReturn(Optional.of(new ItemChangeSequence(ItemChangeSequence.ID, 0L)));
+
+        itemChangeService.recordDeletion(1L);
+
+        ArgumentCaptor<ItemChangeEvent> captor = ArgumentCaptor.forClass(ItemChangeEvent.class);
+        verify(itemChangeEventRepository).save(captor.capture());
+        assertEquals(ChangeType.DELETED, captor.getValue().getType());
+        assertNull(captor.getValue().getPayload());
+        assertEquals(1L, captor.getValue().getSeq());
+    }
+
+    @Test
+    public void testRecordChange_ConsecutiveWrites_GetConsecutiveSeqs() {
+        ItemChangeSequence sequence = new ItemChangeSequence(ItemChangeSequence.ID, 5L);
+        when(itemChangeSequenceRepository.findByIdForUpdate(ItemChangeSequence.ID))
+                .thenReturn(Optional.of(sequence));
+
+        itemChangeService.recordDeletion(1L);
+        itemChangeService.recordDeletion(2L);
+
+        ArgumentCaptor<ItemChangeEvent> captor = ArgumentCaptor.forClass(ItemChangeEvent.class);
+        verify(itemChangeEventRepository, times(2)).save(captor.capture());
+        assertEquals(6L, captor.getAllValues().get(0).getSeq());
+        assertEquals(7L, captor.getAllValues().get(1).getSeq());
+        assertEquals(7L, sequence.getLastSeq());
+    }
+
+    @Test
+    public void testRecordChange_SequenceNotInitialized_ThrowsException() {
+        when(itemChangeSequenceRepository.findByIdForUpdate(ItemChangeSequence.ID))
+                .thenReturn(Optional.empty());
+
+        assertThrows(IllegalStateException.class, () -> itemChangeService.recordDeletion(1L));
+        verify(itemChangeEventRepository, never()).save(any());
+    }
+
+    @Test
+    public void testInitializeSequence_ExistingEvents_ContinuesAfterLatest() {
+        when(itemChangeSequenceRepository.existsById(ItemChangeSequence.ID)).thenReturn(false);
+        when(itemChangeEventRepository.findTopByOrderBySeqDesc()).thenReturn(Optional.of(event(12L)));
+
+        itemChangeService.initializeSequence();
+
+        ArgumentCaptor<ItemChangeSequence> captor = ArgumentCaptor.forClass(ItemChangeSequence.class);
+        verify(itemChangeSequenceRepository).save(captor.capture());
+        assertEquals(12L, captor.getValue().getLastSeq());
+    }
+
+    @Test
+    public void testFindChanges_MoreThanLimit_ReturnsBatchWithCursor() {
+        List<ItemChangeEvent> events = Arrays.asList(event(3L), event(4L), event(5L));
+        when(itemChangeEventRepository.findBySeqGreaterThanOrderBySeqAsc(eq(2L), any(Pageable.class)))
+                .thenReturn(events);
+
+        ItemChangeBatch batch = itemChangeService.findChanges(2L, 2);
+
+        assertEquals(2, batch.changes().size());
+        assertEquals(4L, batch.nextSince());
+        assertTrue(batch.hasMore());
+        verify(itemChangeEventRepository).findBySeqGreaterThanOrderBySeqAsc(eq(2L),
+                argThat(pageable -> pageable.getPageSize() == 3));
+    }
+
+    @Test
+    public void testFindChanges_NoChanges_KeepsCursor() {
+        when(itemChangeEventRepository.findBySeqGreaterThanOrderBySeqAsc(eq(7L), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        ItemChangeBatch batch = itemChangeService.findChanges(7L, 10);
+
+        assertTrue(batch.changes().isEmpty());
+        assertEquals(7L, batch.nextSince());
+        assertFalse(batch.hasMore());
+    }
+
+    @Test
+    public void testFindChanges_OutOfRangeArguments_AreClamped() {
+        when(itemChangeEventRepository.findBySeqGreaterThanOrderBySeqAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        itemChangeService.findChanges(-5L, 1_000_000);
+
+        verify(itemChangeEventRepository).findBySeqGreaterThanOrderBySeqAsc(eq(0L),
+                argThat(pageable -> pageable.getPageSize() == ItemChangeService.MAX_BATCH_SIZE + 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ItemChangeEvent> captureSavedEvents() {
+        ArgumentCaptor<Iterable<ItemChangeEvent>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(itemChangeEventRepository).saveAll(captor.capture());
+        List<ItemChangeEvent> events = new ArrayList<>();
+        captor.getValue().forEach(events::add);
+        return events;
+    }
+
+    private ItemChangeEvent event(Long seq) {
+        return new ItemChangeEvent(seq, 1L, ChangeType.UPDATED, Instant.now(), "{}");
+    }
+}
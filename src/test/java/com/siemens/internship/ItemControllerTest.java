@@ -1,28 +1,45 @@
 package com.siemens.internship;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import com.siemens.internship.controller.ItemController;
 import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemChangeBatch;
+import com.siemens.internship.model.ItemChangeEvent;
+import com.siemens.internship.model.ItemChangeEvent.ChangeType;
+import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.service.ItemChangeService;
 import com.siemens.internship.service.ItemService;
+import com.siemens.internship.validation.InvalidFieldException;
+import com.siemens.internship.validation.RequestSizeLimitInterceptor;
 import com.siemens.internship.validation.ValidationExceptionHandler;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -36,6 +53,12 @@ public class ItemControllerTest {
         @Mock
         private ItemService itemService;
 
+        @Mock
+        private ItemChangeService itemChangeService;
+
+        @Spy
+        private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
         @InjectMocks
         private ItemController itemController;
 
@@ -49,13 +72,17 @@ public class ItemControllerTest {
         private static final Long VALID_ID = 1L;
         private static final Long INVALID_ID = -1L;
         private static final Long NON_EXISTENT_ID = 99L;
+        private static final Instant LAST_MODIFIED = Instant.parse("2025-01-01T00:00:00Z");
+        private static final long BULK_MAX_REQUEST_BYTES = 4096;
 
         @BeforeEach
         public void setUp() {
                 mockMvc = MockMvcBuilders.standaloneSetup(itemController)
                                 .setControllerAdvice(new ValidationExceptionHandler())
+                                .addMappedInterceptors(new String[] { "/api/items/bulk" },
+                                                new RequestSizeLimitInterceptor(BULK_MAX_REQUEST_BYTES))
                                 .build();
-                objectMapper = new ObjectMapper();
+                objectMapper = new ObjectMapper().findAndRegisterModules();
 
                 testItem = new Item();
                 testItem.setId(1L);
@@ -63,6 +90,7 @@ public class ItemControllerTest {
                 testItem.setDescription("Test Description");
                 testItem.setStatus("UNPROCESSED");
                 testItem.setEmail("test@example.com");
+                testItem.setVersion(3L);
 
                 testItem2 = new Item();
                 testItem2.setId(2L);
@@ -95,23 +123,103 @@ public class ItemControllerTest {
                 verify(itemService, times(1)).findAll();
         }
 
+        @Test
+        public void testGetAllItems_AcceptCbor_ReturnsCbor() throws Exception {
+                when(itemService.findAll()).thenReturn(itemList);
+
+                MvcResult mvcResult = mockMvc.perform(get("/api/items")
+                                .accept(MediaType.APPLICATION_CBOR))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                                .andReturn();
+
+                Item[] items = new ObjectMapper(new CBORFactory())
+                                .readValue(mvcResult.getResponse().getContentAsByteArray(), Item[].class);
+                assertEquals(3, items.length);
+                assertEquals("Test Item 3", items[2].getName());
+        }
+
+        @Test
+        public void testGetAllItems_MatchingETag_ReturnsNotModified() throws Exception {
+                when(itemChangeService.findLatestChange()).thenReturn(Optional.of(
+                                new ItemChangeEvent(7L, 1L, ChangeType.UPDATED, LAST_MODIFIED, null)));
+
+                mockMvc.perform(get("/api/items")
+                                .header("If-None-Match", "W/\"items-7\""))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string("ETag", "W/\"items-7\""));
+
+                verify(itemService, never()).findAll();
+        }
+
+        @Test
+        public void testGetAllItems_StaleETag_ReturnsItems() throws Exception {
+                when(itemChangeService.findLatestChange()).thenReturn(Optional.of(
+                                new ItemChangeEvent(8L, 1L, ChangeType.UPDATED, LAST_MODIFIED, null)));
+                when(itemService.findAll()).thenReturn(itemList);
+
+                mockMvc.perform(get("/api/items")
+                                .header("If-None-Match", "W/\"items-7\""))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "W/\"items-8\""))
+                                .andExpect(jsonPath("$.length()").value(3));
+        }
+
+        @Test
+        public void testGetAllItems_UnexpectedError_ReturnsInternalServerError() throws Exception {
+                when(itemService.findAll()).thenThrow(new RuntimeException("Connection refused: db-host:9092"));
+
+                mockMvc.perform(get("/api/items"))
+                                .andExpect(status().isInternalServerError())
+                                .andExpect(jsonPath("$[0].message").value("An unexpected error occurred"));
+        }
+
+        @Test
+        public void testGetAllItems_IllegalArgument_ReturnsGeneralError() throws Exception {
+                when(itemService.findAll()).thenThrow(new IllegalArgumentException("Unsupported request"));
+
+                mockMvc.perform(get("/api/items"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$[0].error").value("Bad Request"))
+                                .andExpect(jsonPath("$[0].message").value("Unsupported request"))
+                                .andExpect(jsonPath("$[0].field").doesNotExist());
+        }
+
         @Test
         public void testGetItemById_ValidId_ReturnsItem() throws Exception {
+                when(itemService.findVersionById(VALID_ID)).thenReturn(Optional.of(versionView(3L)));
                 when(itemService.findById(VALID_ID)).thenReturn(Optional.of(testItem));
 
                 mockMvc.perform(get("/api/items/1")
                                 .contentType(MediaType.APPLICATION_JSON))
                                 .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", "W/\"1-3\""))
+                                .andExpect(header().string("Vary", "Accept"))
+                                .andExpect(header().exists("Last-Modified"))
                                 .andExpect(jsonPath("$.id").value(1))
                                 .andExpect(jsonPath("$.name").value("Test Item"));
 
                 verify(itemService, times(1)).findById(1L);
         }
 
+        @Test
+        public void testGetItemById_MatchingETag_ReturnsNotModified() throws Exception {
+                when(itemService.findVersionById(VALID_ID)).thenReturn(Optional.of(versionView(3L)));
+
+                mockMvc.perform(get("/api/items/1")
+                                .header("If-None-Match", "W/\"1-3\""))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string("ETag", "W/\"1-3\""))
+                                .andExpect(header().string("Vary", "Accept"))
+                                .andExpect(content().string(""));
+
+                verify(itemService, never()).findById(anyLong());
+        }
+
         @Test
         public void testGetItemById_InvalidId_ReturnsBadRequest() throws Exception {
-                doThrow(new IllegalArgumentException("Id cannot be negative or zero"))
-                                .when(itemService).findById(INVALID_ID);
+                doThrow(new InvalidFieldException("id", "Id cannot be negative or zero"))
+                                .when(itemService).findVersionById(INVALID_ID);
 
                 mockMvc.perform(get("/api/items/-1")
                                 .contentType(MediaType.APPLICATION_JSON))
@@ -122,13 +230,14 @@ public class ItemControllerTest {
 
         @Test
         public void testGetItemById_NonExistentId_ReturnsNotFound() throws Exception {
-                when(itemService.findById(NON_EXISTENT_ID)).thenReturn(Optional.empty());
+                when(itemService.findVersionById(NON_EXISTENT_ID)).thenReturn(Optional.empty());
 
                 mockMvc.perform(get("/api/items/99")
                                 .contentType(MediaType.APPLICATION_JSON))
                                 .andExpect(status().isNotFound());
 
-                verify(itemService, times(1)).findById(99L);
+                verify(itemService, times(1)).findVersionById(99L);
+                verify(itemService, never()).findById(anyLong());
         }
 
         @Test
@@ -142,7 +251,7 @@ public class ItemControllerTest {
                                 .andExpect(jsonPath("$.id").value(1))
                                 .andExpect(jsonPath("$.name").value("Test Item"));
 
-                verify(itemService, times(1)).save(any(Item.class));
+                verify(itemService, times(1)).save(argThat(item -> item.getId() == null && item.getVersion() == null));
         }
 
         @Test
@@ -155,6 +264,88 @@ public class ItemControllerTest {
                 verify(itemService, never()).save(any(Item.class));
         }
 
+        @Test
+        public void testCreateItem_InvalidEmail_ReturnsBadRequest() throws Exception {
+                testItem.setEmail("not-an-email");
+
+                mockMvc.perform(post("/api/items")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(testItem)))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$[0].field").value("email"))
+                                .andExpect(jsonPath("$[0].message").value("Invalid email format"));
+
+                verify(itemService, never()).save(any(Item.class));
+        }
+
+        @Test
+        public void testCreateItems_ValidItems_ReturnsCreated() throws Exception {
+                when(itemService.saveAll(anyList())).thenReturn(itemList);
+
+                mockMvc.perform(post("/api/items/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(itemList)))
+                                .andExpect(status().isCreated())
+                                .andExpect(jsonPath("$.length()").value(3));
+
+                verify(itemService, times(1)).saveAll(argThat(items -> items.stream()
+                                .allMatch(item -> item.getId() == null)));
+        }
+
+        @Test
+        public void testCreateItems_InvalidItems_ReturnsAllErrors() throws Exception {
+                testItem2.setEmail("not-an-email");
+                testItem3.setName("");
+
+                mockMvc.perform(post("/api/items/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(itemList)))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$[?(@.field == '[1].email')].message")
+                                                .value("Invalid email format"))
+                                .andExpect(jsonPath("$[?(@.field == '[2].name')]").exists());
+
+                verify(itemService, never()).saveAll(anyList());
+        }
+
+        @Test
+        public void testCreateItems_EmptyList_ReturnsBadRequest() throws Exception {
+                mockMvc.perform(post("/api/items/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[]"))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$[0].field").value("items"));
+
+                verify(itemService, never()).saveAll(anyList());
+        }
+
+        @Test
+        public void testCreateItems_BodyTooLarge_ReturnsPayloadTooLarge() throws Exception {
+                List<Item> items = new ArrayList<>();
+                for (int i = 0; i < 50; i++) {
+                        items.add(testItem);
+                }
+
+                mockMvc.perform(post("/api/items/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(items)))
+                                .andExpect(status().isPayloadTooLarge())
+                                .andExpect(jsonPath("$[0].error").value("Payload Too Large"))
+                                .andExpect(jsonPath("$[0].message")
+                                                .value("Request body must not exceed 4096 bytes"));
+
+                verify(itemService, never()).saveAll(anyList());
+        }
+
+        @Test
+        public void testCreateItems_NoContentLength_ReturnsLengthRequired() throws Exception {
+                mockMvc.perform(post("/api/items/bulk")
+                                .contentType(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isLengthRequired());
+
+                verify(itemService, never()).saveAll(anyList());
+        }
+
         @Test
         public void testUpdateItem_ValidId_ReturnsOk() throws Exception {
                 when(itemService.findById(VALID_ID)).thenReturn(Optional.of(testItem));
@@ -168,12 +359,12 @@ public class ItemControllerTest {
                                 .andExpect(jsonPath("$.name").value("Test Item"));
 
                 verify(itemService, times(1)).findById(VALID_ID);
-                verify(itemService, times(1)).save(any(Item.class));
+                verify(itemService, times(1)).save(argThat(item -> item.getVersion() == 3L));
         }
 
         @Test
         public void testUpdateItem_InvalidId_ReturnsBadRequest() throws Exception {
-                doThrow(new IllegalArgumentException("Id cannot be negative or zero"))
+                doThrow(new InvalidFieldException("id", "Id cannot be negative or zero"))
                                 .when(itemService).findById(INVALID_ID);
 
                 mockMvc.perform(put("/api/items/-1")
@@ -215,7 +406,7 @@ public class ItemControllerTest {
 
         @Test
         public void testDeleteItem_InvalidId_ReturnsBadRequest() throws Exception {
-                doThrow(new IllegalArgumentException("Id cannot be negative or zero"))
+                doThrow(new InvalidFieldException("id", "Id cannot be negative or zero"))
                                 .when(itemService).findById(INVALID_ID);
 
                 mockMvc.perform(delete("/api/items/-1")
@@ -239,6 +430,35 @@ public class ItemControllerTest {
                 verify(itemService, never()).deleteById(NON_EXISTENT_ID);
         }
 
+        @Test
+        public void testGetChanges_ReturnsBatch() throws Exception {
+                ItemChangeEvent event = new ItemChangeEvent(5L, 1L, ChangeType.UPDATED, Instant.now(),
+                                "{\"id\":1,\"status\":\"PROCESSED\"}");
+                when(itemChangeService.findChanges(4L, 10))
+                                .thenReturn(new ItemChangeBatch(List.of(event), 5L, false));
+
+                mockMvc.perform(get("/api/items/changes")
+                                .param("since", "4")
+                                .param("limit", "10"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.changes[0].seq").value(5))
+                                .andExpect(jsonPath("$.changes[0].type").value("UPDATED"))
+                                .andExpect(jsonPath("$.changes[0].payload.status").value("PROCESSED"))
+                                .andExpect(jsonPath("$.nextSince").value(5))
+                                .andExpect(jsonPath("$.hasMore").value(false));
+
+                verify(itemChangeService, times(1)).findChanges(4L, 10);
+        }
+
+        @Test
+        public void testGetChanges_AcceptCbor_ReturnsNotAcceptable() throws Exception {
+                mockMvc.perform(get("/api/items/changes")
+                                .accept(MediaType.APPLICATION_CBOR))
+                                .andExpect(status().isNotAcceptable());
+
+                verify(itemChangeService, never()).findChanges(anyLong(), anyInt());
+        }
+
         @Test
         public void testProcessItems_ReturnsOk() throws Exception {
                 CompletableFuture<List<Item>> future = CompletableFuture.completedFuture(itemList);
@@ -274,8 +494,24 @@ public class ItemControllerTest {
                                 .andReturn();
 
                 mockMvc.perform(asyncDispatch(mvcResult))
-                                .andExpect(status().isBadRequest());
+                                .andExpect(status().isInternalServerError())
+                                .andExpect(jsonPath("$[0].error").value("Internal Server Error"))
+                                .andExpect(jsonPath("$[0].message").value("An unexpected error occurred"));
 
                 verify(itemService, times(1)).processItemsAsync();
         }
-}
+
+        private static ItemRepository.VersionView versionView(Long version) {
+                return new ItemRepository.VersionView() {
+                        @Override
+                        public Long getVersion() {
+                                return version;
+                        }
+
+                        @Override
+                        public Instant getLastModified() {
+                                return LAST_MODIFIED;
+                        }
+                };
+        }
+}
\ No newline at end of file
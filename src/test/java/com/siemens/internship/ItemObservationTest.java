@@ -0,0 +1,158 @@
+package com.siemens.internship;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.observability.QueryCountingStatementInspector;
+import com.siemens.internship.observability.QueryStatisticsInterceptor;
+import com.siemens.internship.observability.RepositoryObservationAspect;
+import com.siemens.internship.observability.RequestQueryStatistics;
+import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.service.ItemService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.test.simple.SimpleSpan;
+import io.micrometer.tracing.test.simple.SimpleTracer;
+
+// Tests of the tracing spans and per request query statistics, with spans
+// collected by the in-memory SimpleTracer
+public class ItemObservationTest {
+
+    private SimpleTracer tracer;
+    private ObservationRegistry observationRegistry;
+
+    @BeforeEach
+    void setUp() {
+        tracer = new SimpleTracer();
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultTracingObservationHandler(tracer));
+    }
+
+    @Test
+    public void testServiceCall_CreatesServiceSpanWithNestedRepositorySpan() {
+        ItemRepository itemRepository = mock(ItemRepository.class);
+        when(itemRepository.findAll()).thenReturn(List.of(new Item()));
+
+        AspectJProxyFactory repositoryProxyFactory = new AspectJProxyFactory(itemRepository);
+        repositoryProxyFactory.addAspect(new RepositoryObservationAspect(observationRegistry));
+        ItemRepository observedRepository = repositoryProxyFactory.getProxy();
+
+        ItemService itemService = new ItemService();
+        ReflectionTestUtils.setField(itemService, "itemRepository", observedRepository);
+        AspectJProxyFactory serviceProxyFactory = new AspectJProxyFactory(itemService);
+        serviceProxyFactory.addAspect(new ObservedAspect(observationRegistry));
+        ItemService observedService = serviceProxyFactory.getProxy();
+
+        assertEquals(1, observedService.findAll().size());
+
+        Deque<SimpleSpan> spans = tracer.getSpans();
+        assertEquals(2, spans.size());
+        SimpleSpan serviceSpan = findSpan(spans, "ItemService#findAll");
+        SimpleSpan repositorySpan = findSpan(spans, "ItemRepository#findAll");
+        assertEquals(serviceSpan.getSpanId(), repositorySpan.getParentId());
+        assertEquals("findAll", repositorySpan.getTags().get("method"));
+    }
+
+    @Test
+    public void testRepositoryError_IsRecordedOnSpan() {
+        ItemRepository itemRepository = mock(ItemRepository.class);
+        when(itemRepository.findAllIds()).thenThrow(new IllegalStateException("Database unavailable"));
+
+        AspectJProxyFactory repositoryProxyFactory = new AspectJProxyFactory(itemRepository);
+        repositoryProxyFactory.addAspect(new RepositoryObservationAspect(observationRegistry));
+        ItemRepository observedRepository = repositoryProxyFactory.getProxy();
+
+        assertThrows(IllegalStateException.class, observedRepository::findAllIds);
+
+        SimpleSpan span = findSpan(tracer.getSpans(), "ItemRepository#findAllIds");
+        assertEquals("Database unavailable", span.getError().getMessage());
+    }
+
+    @Test
+    public void testQueryStatisticsInterceptor_RecordsQueriesPerEndpoint() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        QueryStatisticsInterceptor interceptor = new QueryStatisticsInterceptor(meterRegistry, 20);
+        QueryCountingStatementInspector statementInspector = new QueryCountingStatementInspector();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/items/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/items/{id}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, new Object());
+        statementInspector.inspect("select 1");
+        statementInspector.inspect("select 2");
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // Statements after the request are not counted
+        statementInspector.inspect("select 3");
+
+        assertEquals(2.0, meterRegistry.get("items.request.queries")
+                .tag("uri", "/api/items/{id}")
+                .tag("method", "GET")
+                .summary()
+                .totalAmount());
+        assertEquals(0.0, meterRegistry.get("items.request.entities.loaded")
+                .tag("uri", "/api/items/{id}")
+                .summary()
+                .totalAmount());
+    }
+
+    @Test
+    public void testQueryStatisticsInterceptor_AsyncRequest_CountsWorkerThreadQueries() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        QueryStatisticsInterceptor interceptor = new QueryStatisticsInterceptor(meterRegistry, 20);
+        QueryCountingStatementInspector statementInspector = new QueryCountingStatementInspector();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/items/process");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/items/process");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Initial dispatch hands the work to another thread and releases the
+        // request thread
+        interceptor.preHandle(request, response, new Object());
+        statementInspector.inspect("select ids");
+        CompletableFuture<String> worker = CompletableFuture.supplyAsync(RequestQueryStatistics.wrap(() -> {
+            statementInspector.inspect("select item");
+            statementInspector.inspect("update item");
+            return "done";
+        }));
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+        worker.get();
+
+        // Async dispatch once the work is done
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        assertEquals(3.0, meterRegistry.get("items.request.queries")
+                .tag("uri", "/api/items/process")
+                .summary()
+                .totalAmount());
+        assertEquals(1, meterRegistry.get("items.request.queries")
+                .tag("uri", "/api/items/process")
+                .summary()
+                .count());
+    }
+
+    private SimpleSpan findSpan(Deque<SimpleSpan> spans, String name) {
+        return spans.stream()
+                .filter(span -> name.equals(span.getName()))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No span named " + name + " in " + spans));
+    }
+}
@@ -0,0 +1,73 @@
+package com.siemens.internship;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.siemens.internship.model.Item;
+
+// Compares payload size and serialization time of a bulk item response in the
+// supported formats, with and without gzip. Run with: mvn test -Pbenchmark
+@Tag("benchmark")
+public class ItemSerializationBenchmarkTest {
+
+    private static final int ITEM_COUNT = 10_000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 50;
+
+    @Test
+    public void benchmarkBulkSerialization() throws IOException {
+        List<Item> items = new ArrayList<>();
+        for (long id = 1; id <= ITEM_COUNT; id++) {
+            items.add(new Item(id, "Item " + id, "Description of item " + id,
+                    id % 2 == 0 ? "PROCESSED" : "UNPROCESSED", "user" + id + "@example.com", 1L, Instant.now()));
+        }
+
+        long jsonSize = run("JSON", new ObjectMapper().findAndRegisterModules(), items);
+        long cborSize = run("CBOR", new ObjectMapper(new CBORFactory()).findAndRegisterModules(), items);
+        long smileSize = run("Smile", new ObjectMapper(new SmileFactory()).findAndRegisterModules(), items);
+
+        assertTrue(cborSize < jsonSize, "CBOR payload should be smaller than JSON");
+        assertTrue(smileSize < jsonSize, "Smile payload should be smaller than JSON");
+    }
+
+    private long run(String format, ObjectMapper mapper, List<Item> items) throws IOException {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            mapper.writeValueAsBytes(items);
+        }
+
+        byte[] payload = null;
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            payload = mapper.writeValueAsBytes(items);
+        }
+        double serializeMs = (System.nanoTime() - startedAt) / 1_000_000.0 / MEASURED_ITERATIONS;
+
+        startedAt = System.nanoTime();
+        byte[] gzipped = gzip(payload);
+        double gzipMs = (System.nanoTime() - startedAt) / 1_000_000.0;
+
+        System.out.printf("%-6s %,10d bytes  %,10d bytes gzipped  %8.2f ms serialize  %8.2f ms gzip%n",
+                format, payload.length, gzipped.length, serializeMs, gzipMs);
+        return payload.length;
+    }
+
+    private byte[] gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(payload);
+        }
+        return output.toByteArray();
+    }
+}
@@ -18,9 +18,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.siemens.internship.model.Item;
+import com.siemens.internship.model.ItemChangeEvent.ChangeType;
 import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.service.ItemChangeService;
 import com.siemens.internship.service.ItemService;
 
 // Unit tests for ItemService with a mock item repository
@@ -30,6 +35,12 @@ public class ItemServiceTest {
     @Mock
     private ItemRepository itemRepository;
 
+    @Mock
+    private ItemChangeService itemChangeService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @InjectMocks
     private ItemService itemService;
 
@@ -49,6 +60,10 @@ public class ItemServiceTest {
         validTestItem.setEmail("test@example.com");
 
         itemList = Arrays.asList(validTestItem);
+
+        // Run transactional callbacks inline
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
     }
 
     @Test
@@ -86,6 +101,25 @@ public class ItemServiceTest {
         assertEquals("Id cannot be null", exception.getMessage());
     }
 
+    @Test
+    public void testFindVersionById_ValidId_ReturnsVersion() {
+        ItemRepository.VersionView version = mock(ItemRepository.VersionView.class);
+        when(itemRepository.findVersionById(VALID_ID)).thenReturn(Optional.of(version));
+
+        assertEquals(version, itemService.findVersionById(VALID_ID).get());
+        verify(itemRepository, never()).findById(any());
+    }
+
+    @Test
+    public void testFindVersionById_NegativeId_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            itemService.findVersionById(INVALID_ID);
+        });
+
+        assertEquals("Id cannot be negative or zero", exception.getMessage());
+        verify(itemRepository, never()).findVersionById(any());
+    }
+
     @Test
     public void testDeleteById_ValidId_DeletesItem() {
         doNothing().when(itemRepository).deleteById(VALID_ID);
@@ -93,6 +127,7 @@ public class ItemServiceTest {
         itemService.deleteById(VALID_ID);
 
         verify(itemRepository, times(1)).deleteById(VALID_ID);
+        verify(itemChangeService).recordDeletion(VALID_ID);
     }
 
     @Test
@@ -113,16 +148,29 @@ public class ItemServiceTest {
 
         assertEquals("Id cannot be null", exception.getMessage());
         verify(itemRepository, never()).deleteById(any());
+        verify(itemChangeService, never()).recordDeletion(any());
     }
 
     @Test
     public void testSaveItem_ValidItem_ReturnsSavedItem() {
-        when(itemRepository.save(validTestItem)).thenReturn(validTestItem);
+        when(itemRepository.saveAndFlush(validTestItem)).thenReturn(validTestItem);
 
         Item result = itemService.save(validTestItem);
 
         assertEquals(validTestItem, result);
-        verify(itemRepository, times(1)).save(validTestItem);
+        verify(itemRepository, times(1)).saveAndFlush(validTestItem);
+        verify(itemChangeService).recordChange(ChangeType.UPDATED, validTestItem);
+    }
+
+    @Test
+    public void testSaveItem_NewItem_RecordsCreatedChange() {
+        Item newItem = new Item(null, "New Item", "New Description", "UNPROCESSED", "new@example.com",
+                null, null);
+        when(itemRepository.saveAndFlush(newItem)).thenReturn(validTestItem);
+
+        itemService.save(newItem);
+
+        verify(itemChangeService).recordChange(ChangeType.CREATED, validTestItem);
     }
 
     @Test
@@ -132,7 +180,65 @@ public class ItemServiceTest {
         });
 
         assertEquals("Item cannot be null", exception.getMessage());
-        verify(itemRepository, never()).save(any());
+        verify(itemRepository, never()).saveAndFlush(any());
+        verify(itemChangeService, never()).recordChange(any(), any());
+    }
+
+    @Test
+    public void testSaveAll_ValidItems_RecordsCreatedChanges() {
+        when(itemRepository.saveAllAndFlush(itemList)).thenReturn(itemList);
+
+        List<Item> result = itemService.saveAll(itemList);
+
+        assertEquals(itemList, result);
+        verify(itemChangeService).recordChanges(ChangeType.CREATED, itemList);
+    }
+
+    @Test
+    public void testSaveAll_EmptyList_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            itemService.saveAll(Collections.emptyList());
+        });
+
+        assertEquals("Items cannot be empty", exception.getMessage());
+        verify(itemRepository, never()).saveAllAndFlush(any());
+    }
+
+    @Test
+    public void testFindPendingIds_ReturnsUnprocessedIds() {
+        when(itemRepository.findPendingIdsAfter(eq(7L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(8L, 9L));
+
+        List<Long> result = itemService.findPendingIds(7L, 5);
+
+        assertEquals(Arrays.asList(8L, 9L), result);
+        verify(itemRepository).findPendingIdsAfter(eq(7L),
+                argThat(pageable -> pageable.getPageSize() == 5 && pageable.getPageNumber() == 0));
+    }
+
+    @Test
+    public void testProcessItem_ValidId_MarksItemProcessed() {
+        when(itemRepository.findById(VALID_ID)).thenReturn(Optional.of(validTestItem));
+        when(itemRepository.saveAndFlush(validTestItem)).thenReturn(validTestItem);
+
+        Item result = itemService.processItem(VALID_ID);
+
+        assertEquals(Item.PROCESSED_STATUS, result.getStatus());
+        assertFalse(result.isPending());
+        verify(itemRepository).saveAndFlush(validTestItem);
+        verify(itemChangeService).recordChange(ChangeType.UPDATED, validTestItem);
+    }
+
+    @Test
+    public void testProcessItem_NonExistentId_ThrowsException() {
+        when(itemRepository.findById(VALID_ID)).thenReturn(Optional.empty());
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+            itemService.processItem(VALID_ID);
+        });
+
+        assertEquals("Item not found: 1", exception.getMessage());
+        verify(itemRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -142,7 +248,7 @@ public class ItemServiceTest {
         when(itemRepository.findById(1L)).thenReturn(Optional.of(validTestItem));
         when(itemRepository.findById(2L)).thenReturn(Optional.of(validTestItem));
 
-        when(itemRepository.save(any(Item.class))).thenAnswer(invocation -> {
+        when(itemRepository.saveAndFlush(any(Item.class))).thenAnswer(invocation -> {
             Item item = invocation.getArgument(0);
             item.setStatus("PROCESSED");
             return item;
@@ -158,7 +264,8 @@ public class ItemServiceTest {
         verify(itemRepository).findAllIds();
         verify(itemRepository).findById(1L);
         verify(itemRepository).findById(2L);
-        verify(itemRepository, times(2)).save(any(Item.class));
+        verify(itemRepository, times(2)).saveAndFlush(any(Item.class));
+        verify(itemChangeService, times(2)).recordChange(eq(ChangeType.UPDATED), any(Item.class));
     }
 
     @Test
@@ -174,6 +281,6 @@ public class ItemServiceTest {
 
         verify(itemRepository).findAllIds();
         verify(itemRepository).findById(1L);
-        verify(itemRepository, never()).save(any(Item.class));
+        verify(itemRepository, never()).saveAndFlush(any(Item.class));
     }
 }
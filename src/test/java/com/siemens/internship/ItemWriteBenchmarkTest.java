@@ -0,0 +1,92 @@
+package com.siemens.internship;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.siemens.internship.config.ValidationConfig;
+import com.siemens.internship.controller.ItemController;
+import com.siemens.internship.model.Item;
+import com.siemens.internship.service.ItemService;
+import com.siemens.internship.validation.ValidationExceptionHandler;
+
+// Measures requests per second of the write path (deserialization, validation
+// and error handling) for valid and invalid payloads, with the service mocked
+// out so the database does not dominate. Run with: mvn test -Pbenchmark
+@Tag("benchmark")
+public class ItemWriteBenchmarkTest {
+
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int MEASURED_REQUESTS = 20_000;
+    private static final int BULK_SIZE = 100;
+
+    @Test
+    public void benchmarkWritePath() throws Exception {
+        LocalValidatorFactoryBean validator = ValidationConfig.defaultValidator();
+        validator.afterPropertiesSet();
+
+        ItemService itemService = mock(ItemService.class);
+        when(itemService.save(any(Item.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(itemService.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ItemController itemController = new ItemController();
+        ReflectionTestUtils.setField(itemController, "itemService", itemService);
+        ReflectionTestUtils.setField(itemController, "validator", validator);
+
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(itemController)
+                .setControllerAdvice(new ValidationExceptionHandler())
+                .setValidator(validator)
+                .build();
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        Item validItem = new Item(null, "Test Item", "Test Description", "UNPROCESSED",
+                "test@example.com", null, null);
+        Item invalidItem = new Item(null, "", "Test Description", "UNPROCESSED", "not-an-email", null, null);
+
+        List<Item> validBulk = new ArrayList<>();
+        List<Item> invalidBulk = new ArrayList<>();
+        for (int i = 0; i < BULK_SIZE; i++) {
+            validBulk.add(validItem);
+            invalidBulk.add(i % 10 == 0 ? invalidItem : validItem);
+        }
+
+        run(mockMvc, "single valid", "/api/items", objectMapper.writeValueAsString(validItem), 1);
+        run(mockMvc, "single invalid", "/api/items", objectMapper.writeValueAsString(invalidItem), 1);
+        run(mockMvc, "bulk valid", "/api/items/bulk", objectMapper.writeValueAsString(validBulk), BULK_SIZE);
+        run(mockMvc, "bulk invalid", "/api/items/bulk", objectMapper.writeValueAsString(invalidBulk), BULK_SIZE);
+    }
+
+    private void run(MockMvc mockMvc, String name, String path, String body, int itemsPerRequest)
+            throws Exception {
+        int requests = MEASURED_REQUESTS / itemsPerRequest;
+        for (int i = 0; i < WARMUP_REQUESTS / itemsPerRequest + 1; i++) {
+            send(mockMvc, path, body);
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            send(mockMvc, path, body);
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        System.out.printf("%-15s %,10.0f requests/s  %,10.0f items/s%n",
+                name, requests / seconds, requests * itemsPerRequest / seconds);
+    }
+
+    private void send(MockMvc mockMvc, String path, String body) throws Exception {
+        mockMvc.perform(post(path).contentType(MediaType.APPLICATION_JSON).content(body));
+    }
+}
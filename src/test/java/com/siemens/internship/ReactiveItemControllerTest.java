@@ -0,0 +1,173 @@
+package com.siemens.internship;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.siemens.internship.controller.ReactiveItemController;
+import com.siemens.internship.model.Item;
+import com.siemens.internship.service.ReactiveItemService;
+import com.siemens.internship.validation.InvalidFieldException;
+import com.siemens.internship.validation.ValidationExceptionHandler;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Unit test for the ReactiveItemController class with a mock ReactiveItemService
+@ExtendWith(MockitoExtension.class)
+public class ReactiveItemControllerTest {
+
+        @Mock
+        private ReactiveItemService itemService;
+
+        @InjectMocks
+        private ReactiveItemController itemController;
+
+        private WebTestClient webTestClient;
+        private Item testItem;
+        private Item testItem2;
+
+        @BeforeEach
+        public void setUp() {
+                webTestClient = WebTestClient.bindToController(itemController)
+                                .controllerAdvice(new ValidationExceptionHandler())
+                                .build();
+
+                testItem = new Item(1L, "Test Item", "Test Description", "UNPROCESSED",
+                                "test@example.com", 0L, null);
+                testItem2 = new Item(2L, "Test Item 2", "Test Description 2", "UNPROCESSED",
+                                "test2@example.com", 0L, null);
+        }
+
+        @Test
+        public void testGetAllItems_ReturnsAllItems() {
+                when(itemService.findAll()).thenReturn(Flux.just(testItem, testItem2));
+
+                webTestClient.get().uri("/api/items")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .exchange()
+                                .expectStatus().isOk()
+                                .expectBody()
+                                .jsonPath("$.length()").isEqualTo(2)
+                                .jsonPath("$[0].id").isEqualTo(1)
+                                .jsonPath("$[1].id").isEqualTo(2);
+        }
+
+        @Test
+        public void testGetAllItems_AcceptNdjson_StreamsItems() {
+                when(itemService.findAll()).thenReturn(Flux.just(testItem, testItem2));
+
+                webTestClient.get().uri("/api/items")
+                                .accept(MediaType.APPLICATION_NDJSON)
+                                .exchange()
+                                .expectStatus().isOk()
+                                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                                .expectBodyList(Item.class).hasSize(2);
+        }
+
+        @Test
+        public void testGetItemById_NonExistentId_ReturnsNotFound() {
+                when(itemService.findById(99L)).thenReturn(Mono.empty());
+
+                webTestClient.get().uri("/api/items/99")
+                                .exchange()
+                                .expectStatus().isNotFound();
+        }
+
+        @Test
+        public void testGetItemById_InvalidId_ReturnsBadRequest() {
+                when(itemService.findById(-1L))
+                                .thenThrow(new InvalidFieldException("id", "Id cannot be negative or zero"));
+
+                webTestClient.get().uri("/api/items/-1")
+                                .exchange()
+                                .expectStatus().isBadRequest()
+                                .expectBody()
+                                .jsonPath("$[0].field").isEqualTo("id")
+                                .jsonPath("$[0].message").isEqualTo("Id cannot be negative or zero");
+        }
+
+        @Test
+        public void testCreateItem_ValidItem_ReturnsCreated() {
+                when(itemService.create(any(Item.class))).thenReturn(Mono.just(testItem));
+
+                webTestClient.post().uri("/api/items")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(testItem)
+                                .exchange()
+                                .expectStatus().isCreated()
+                                .expectBody()
+                                .jsonPath("$.id").isEqualTo(1);
+        }
+
+        @Test
+        public void testCreateItem_InvalidEmail_ReturnsBadRequest() {
+                testItem.setEmail("not-an-email");
+
+                webTestClient.post().uri("/api/items")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(testItem)
+                                .exchange()
+                                .expectStatus().isBadRequest()
+                                .expectBody()
+                                .jsonPath("$[0].field").isEqualTo("email")
+                                .jsonPath("$[0].message").isEqualTo("Invalid email format");
+
+                verify(itemService, never()).create(any(Item.class));
+        }
+
+        @Test
+        public void testUpdateItem_NonExistentId_ReturnsNotFound() {
+                when(itemService.update(eq(99L), any(Item.class))).thenReturn(Mono.empty());
+
+                webTestClient.put().uri("/api/items/99")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(testItem)
+                                .exchange()
+                                .expectStatus().isNotFound();
+        }
+
+        @Test
+        public void testDeleteItem_ValidId_ReturnsNoContent() {
+                when(itemService.deleteById(1L)).thenReturn(Mono.just(true));
+
+                webTestClient.delete().uri("/api/items/1")
+                                .exchange()
+                                .expectStatus().isNoContent();
+        }
+
+        @Test
+        public void testDeleteItem_NonExistentId_ReturnsNotFound() {
+                when(itemService.deleteById(99L)).thenReturn(Mono.just(false));
+
+                webTestClient.delete().uri("/api/items/99")
+                                .exchange()
+                                .expectStatus().isNotFound();
+        }
+
+        @Test
+        public void testProcessItems_ReturnsProcessedItems() {
+                testItem.setStatus("PROCESSED");
+                testItem2.setStatus("PROCESSED");
+                when(itemService.processItems()).thenReturn(Flux.fromIterable(List.of(testItem, testItem2)));
+
+                webTestClient.get().uri("/api/items/process")
+                                .accept(MediaType.APPLICATION_JSON)
+                                .exchange()
+                                .expectStatus().isOk()
+                                .expectBody()
+                                .jsonPath("$.length()").isEqualTo(2)
+                                .jsonPath("$[0].status").isEqualTo("PROCESSED");
+        }
+}
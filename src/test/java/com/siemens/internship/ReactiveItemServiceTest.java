@@ -0,0 +1,103 @@
+package com.siemens.internship;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.repository.ReactiveItemRepository;
+import com.siemens.internship.service.ReactiveItemService;
+
+import reactor.core.publisher.Mono;
+
+// Unit tests for ReactiveItemService with a mock reactive item repository
+@ExtendWith(MockitoExtension.class)
+public class ReactiveItemServiceTest {
+
+    @Mock
+    private ReactiveItemRepository itemRepository;
+
+    @InjectMocks
+    private ReactiveItemService itemService;
+
+    private Item validTestItem;
+
+    @BeforeEach
+    void setUp() {
+        validTestItem = new Item(1L, "Test Item", "Test Description", "UNPROCESSED",
+                "test@example.com", 0L, null);
+    }
+
+    @Test
+    public void testFindItemById_NegativeId_ThrowsException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+            itemService.findById(-1L);
+        });
+
+        assertEquals("Id cannot be negative or zero", exception.getMessage());
+        verify(itemRepository, never()).findById(any());
+    }
+
+    @Test
+    public void testUpdate_SetsIdFromPath() {
+        when(itemRepository.update(validTestItem)).thenReturn(Mono.just(validTestItem));
+
+        itemService.update(5L, validTestItem).block();
+
+        assertEquals(5L, validTestItem.getId());
+        verify(itemRepository).update(validTestItem);
+    }
+
+    @Test
+    public void testProcessItems_ProcessesAllItemsInOrder() {
+        Item item2 = new Item(2L, "Test Item 2", "Test Description 2", "PROCESSED",
+                "test2@example.com", 1L, null);
+        validTestItem.setStatus("PROCESSED");
+        when(itemRepository.findIdsAfter(0L, ReactiveItemService.ID_PAGE_SIZE))
+                .thenReturn(Mono.just(List.of(1L, 2L)));
+        when(itemRepository.updateStatus(1L, "PROCESSED")).thenReturn(Mono.just(validTestItem));
+        when(itemRepository.updateStatus(2L, "PROCESSED")).thenReturn(Mono.just(item2));
+
+        List<Item> result = itemService.processItems().collectList().block();
+
+        assertEquals(List.of(validTestItem, item2), result);
+    }
+
+    @Test
+    public void testProcessItems_MissingItem_Fails() {
+        when(itemRepository.findIdsAfter(0L, ReactiveItemService.ID_PAGE_SIZE))
+                .thenReturn(Mono.just(List.of(1L)));
+        when(itemRepository.updateStatus(1L, "PROCESSED")).thenReturn(Mono.empty());
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+            itemService.processItems().collectList().block();
+        });
+
+        assertEquals("Item not found: 1", exception.getMessage());
+    }
+
+    @Test
+    public void testProcessItems_FullPage_ReadsNextPageAfterLastId() {
+        List<Long> firstPage = LongStream.rangeClosed(1, ReactiveItemService.ID_PAGE_SIZE).boxed().toList();
+        long lastId = ReactiveItemService.ID_PAGE_SIZE;
+        when(itemRepository.findIdsAfter(0L, ReactiveItemService.ID_PAGE_SIZE)).thenReturn(Mono.just(firstPage));
+        when(itemRepository.findIdsAfter(lastId, ReactiveItemService.ID_PAGE_SIZE))
+                .thenReturn(Mono.just(List.of(lastId + 1)));
+        when(itemRepository.updateStatus(anyLong(), eq("PROCESSED"))).thenReturn(Mono.just(validTestItem));
+
+        List<Item> result = itemService.processItems().collectList().block();
+
+        assertEquals(ReactiveItemService.ID_PAGE_SIZE + 1, result.size());
+        verify(itemRepository).findIdsAfter(lastId, ReactiveItemService.ID_PAGE_SIZE);
+        verify(itemRepository).updateStatus(lastId + 1, "PROCESSED");
+    }
+}
@@ -0,0 +1,176 @@
+package com.siemens.internship;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.repository.ItemRepository;
+import com.siemens.internship.repository.ReactiveItemRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+
+// Side by side load comparison of the blocking (default) and the reactive
+// profile: many concurrent clients that each read a large item list slowly,
+// reporting throughput, heap usage and the peak server side concurrency
+// (busy Tomcat threads, active and pending pool connections).
+// Run with: mvn test -Pbenchmark
+@Tag("benchmark")
+public class StackLoadBenchmarkTest {
+
+    private static final int CLIENTS = 2_000;
+    // About 1 MB of JSON per response, more than the socket buffers of a slow
+    // reader hold, so the server side of each request stays busy until the
+    // client is done. Kept at this size so thousands of clients still finish,
+    // the servlet stack holds a materialized list per busy request thread.
+    private static final int ITEM_COUNT = 5_000;
+    private static final int SEED_BATCH_SIZE = 1_000;
+    // Clients read their response in chunks with a pause in between, about
+    // 800 KB/s, so one response takes over a second to read
+    private static final int READ_CHUNK_BYTES = 4_096;
+    private static final long READ_PAUSE_MS = 5;
+    private static final long SAMPLE_INTERVAL_MS = 20;
+    // Server side gauges whose peak is reported, each stack only has some of them
+    private static final List<String> SERVER_GAUGES = List.of(
+            "tomcat.threads.busy",
+            "hikaricp.connections.active",
+            "hikaricp.connections.pending",
+            "r2dbc.pool.acquired",
+            "r2dbc.pool.pending");
+
+    @Test
+    public void benchmarkStacks() throws Exception {
+        run("servlet", new String[0]);
+        run("reactive", new String[] { "reactive" });
+    }
+
+    private void run(String name, String[] profiles) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(InternshipApplication.class)
+                .profiles(profiles)
+                .properties("server.port=0", "server.compression.enabled=false",
+                        "server.tomcat.mbeanregistry.enabled=true")
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI itemsUri = URI.create("http://localhost:" + port + "/api/items");
+            seed(context);
+
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            Map<String, Double> peaks = new ConcurrentHashMap<>();
+            ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+            // One reader thread per open response, so the client never limits how
+            // many responses are read at the same time
+            ExecutorService readerExecutor = Executors.newCachedThreadPool();
+            // One connection per client instead of an h2c upgrade attempt
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+            try {
+                long heapBeforeMb = usedHeapMb();
+                sampler.scheduleAtFixedRate(() -> samplePeaks(meterRegistry, peaks),
+                        0, SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                long startedAt = System.nanoTime();
+
+                List<CompletableFuture<Integer>> responses = new ArrayList<>(CLIENTS);
+                for (int i = 0; i < CLIENTS; i++) {
+                    responses.add(client.sendAsync(HttpRequest.newBuilder(itemsUri).GET().build(),
+                            HttpResponse.BodyHandlers.ofInputStream())
+                            .thenApplyAsync(this::readSlowly, readerExecutor)
+                            .exceptionally(throwable -> -1));
+                }
+                CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+
+                double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+                long failed = responses.stream().filter(response -> response.join() != 200).count();
+                System.out.printf("%-9s %,6d clients in %6.2f s (%,8.0f req/s), %d failed, heap %,5d MB -> %,5d MB%n",
+                        name, CLIENTS, seconds, CLIENTS / seconds, failed, heapBeforeMb, usedHeapMb());
+                for (String gauge : SERVER_GAUGES) {
+                    if (peaks.containsKey(gauge)) {
+                        System.out.printf("%-9s   peak %-28s %,6.0f%n", name, gauge, peaks.get(gauge));
+                    }
+                }
+                // Failures are reported rather than asserted, e.g. requests that
+                // timed out waiting for a pool connection are part of the result
+                assertTrue(failed < CLIENTS, "Every request failed");
+            } finally {
+                sampler.shutdownNow();
+                readerExecutor.shutdownNow();
+            }
+        }
+    }
+
+    // Seeds through the repository of the running stack, HTTP would dominate the
+    // benchmark setup time for this many items
+    private void seed(ConfigurableApplicationContext context) {
+        List<Item> items = new ArrayList<>(ITEM_COUNT);
+        for (int i = 1; i <= ITEM_COUNT; i++) {
+            items.add(new Item(null, "Item " + i, "Description of item " + i, "UNPROCESSED",
+                    "user" + i + "@example.com", null, null));
+        }
+
+        ItemRepository itemRepository = context.getBeanProvider(ItemRepository.class).getIfAvailable();
+        if (itemRepository != null) {
+            for (int start = 0; start < ITEM_COUNT; start += SEED_BATCH_SIZE) {
+                itemRepository.saveAll(items.subList(start, Math.min(start + SEED_BATCH_SIZE, ITEM_COUNT)));
+            }
+        } else {
+            ReactiveItemRepository reactiveItemRepository = context.getBean(ReactiveItemRepository.class);
+            Flux.fromIterable(items).flatMap(reactiveItemRepository::insert, 8).then().block();
+        }
+    }
+
+    private static void samplePeaks(MeterRegistry meterRegistry, Map<String, Double> peaks) {
+        for (String gauge : SERVER_GAUGES) {
+            Collection<Gauge> gauges = meterRegistry.find(gauge).gauges();
+            if (!gauges.isEmpty()) {
+                // Summed over tags, e.g. one gauge per pool
+                peaks.merge(gauge, gauges.stream().mapToDouble(Gauge::value).sum(), Math::max);
+            }
+        }
+    }
+
+    private int readSlowly(HttpResponse<InputStream> response) {
+        byte[] buffer = new byte[READ_CHUNK_BYTES];
+        try (InputStream body = response.body()) {
+            while (body.read(buffer) != -1) {
+                Thread.sleep(READ_PAUSE_MS);
+            }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            return -1;
+        } catch (IOException ioException) {
+            return -1;
+        }
+        return response.statusCode();
+    }
+
+    private static long usedHeapMb() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+    }
+}
@@ -0,0 +1,94 @@
+package com.siemens.internship;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.siemens.internship.model.Item;
+import com.siemens.internship.repository.ItemRepository;
+
+// Compares startup time and heap usage of the in-memory and the file backed
+// (persistent profile) storage modes for a large number of items.
+// Run with: mvn test -Pbenchmark
+@Tag("benchmark")
+public class StorageModeBenchmarkTest {
+
+    private static final int ITEM_COUNT = 200_000;
+    private static final int INSERT_BATCH_SIZE = 1_000;
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    public void benchmarkStorageModes() {
+        String dbPath = dataDir.resolve("items").toAbsolutePath().toString();
+
+        report("in-memory", startAndFill(new String[0], "items.storage.path=" + dbPath));
+        report("file", startAndFill(new String[] { "persistent" }, "items.storage.path=" + dbPath));
+
+        // Restarting the file mode measures the cost of reopening an existing
+        // database, and shows the data survived the restart
+        long startedAt = System.nanoTime();
+        try (ConfigurableApplicationContext context = start(new String[] { "persistent" },
+                "items.storage.path=" + dbPath)) {
+            double startupMs = (System.nanoTime() - startedAt) / 1_000_000.0;
+            assertEquals(ITEM_COUNT, context.getBean(ItemRepository.class).count());
+            System.out.printf("%-10s reopened in %,8.0f ms, heap %,6d MB%n",
+                    "file", startupMs, usedHeapMb());
+        }
+        assertTrue(Files.exists(dataDir.resolve("items.mv.db")));
+    }
+
+    private long[] startAndFill(String[] profiles, String... properties) {
+        long startedAt = System.nanoTime();
+        try (ConfigurableApplicationContext context = start(profiles, properties)) {
+            long startupMs = (System.nanoTime() - startedAt) / 1_000_000;
+            long heapBeforeMb = usedHeapMb();
+
+            ItemRepository itemRepository = context.getBean(ItemRepository.class);
+            startedAt = System.nanoTime();
+            List<Item> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+            for (int i = 1; i <= ITEM_COUNT; i++) {
+                batch.add(new Item(null, "Item " + i, "Description of item " + i, "UNPROCESSED",
+                        "user" + i + "@example.com", null, null));
+                if (batch.size() == INSERT_BATCH_SIZE) {
+                    itemRepository.saveAll(batch);
+                    batch.clear();
+                }
+            }
+            long insertMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+            return new long[] { startupMs, insertMs, heapBeforeMb, usedHeapMb() };
+        }
+    }
+
+    private ConfigurableApplicationContext start(String[] profiles, String... properties) {
+        List<String> allProperties = new ArrayList<>(List.of(properties));
+        allProperties.add("server.port=0");
+        allProperties.add("spring.jpa.hibernate.ddl-auto=update");
+        return new SpringApplicationBuilder(InternshipApplication.class)
+                .profiles(profiles)
+                .properties(allProperties.toArray(new String[0]))
+                .run();
+    }
+
+    private void report(String mode, long[] result) {
+        System.out.printf("%-10s started in %,8d ms, inserted %,d items in %,8d ms, heap %,6d MB -> %,6d MB%n",
+                mode, result[0], ITEM_COUNT, result[1], result[2], result[3]);
+    }
+
+    private static long usedHeapMb() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+    }
+}